@@ -0,0 +1,86 @@
+package com.github.silviacristinaa.employees.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Drives the running HTTP stack with {@value #CLIENTS} concurrent clients and compares Tomcat's platform worker pool
+ * with the virtual-thread mode. SampleTime reports the latency percentiles (p99 included) next to throughput.
+ * The virtual mode needs the application built and run on JDK 21, e.g.
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="EmployeeLoadBenchmark"} with JAVA_HOME on a JDK 21.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(EmployeeLoadBenchmark.CLIENTS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class EmployeeLoadBenchmark {
+	
+	static final int CLIENTS = 1024;
+	private static final int ROWS = 100_000;
+	
+	@Param({ "false", "true" })
+	public boolean virtualThreads;
+	
+	private ConfigurableApplicationContext context;
+	private HttpClient httpClient;
+	private HttpRequest findByFilters;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		if (virtualThreads && Runtime.version().feature() < 21) {
+			throw new IllegalStateException("Virtual threads need JDK 21, running on " + Runtime.version());
+		}
+		context = EmployeesBenchmarkContext.start("load" + virtualThreads, ROWS, WebApplicationType.SERVLET, 
+				"server.port=0",
+				"server.tomcat.max-connections=" + 2 * CLIENTS,
+				"spring.datasource.hikari.maximum-pool-size=50",
+				"employees.virtual-threads.enabled=" + virtualThreads);
+		
+		int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+		String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+		httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		findByFilters = HttpRequest.newBuilder(URI.create("http://localhost:" + port + contextPath 
+				+ "/employees/filters?department=IT&enabled=true&size=20"))
+				.timeout(Duration.ofSeconds(60)).GET().build();
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public int findByFilters() throws IOException, InterruptedException {
+		int statusCode = httpClient.send(findByFilters, HttpResponse.BodyHandlers.discarding()).statusCode();
+		if (statusCode != 200) {
+			throw new IllegalStateException("GET " + findByFilters.uri() + " answered " + statusCode);
+		}
+		return statusCode;
+	}
+}
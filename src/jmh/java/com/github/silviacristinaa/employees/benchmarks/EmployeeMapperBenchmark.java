@@ -0,0 +1,68 @@
+package com.github.silviacristinaa.employees.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.mappers.EmployeeMapper;
+
+/**
+ * Per-page cost of mapping entities to response DTOs and request DTOs to entities. Divide the average time
+ * by {@code pageSize} for the per-object cost; {@code -prof gc} reports the matching allocation rate.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EmployeeMapperBenchmark {
+	
+	@Param({ "1000", "10000" })
+	public int pageSize;
+	
+	private final EmployeeMapper employeeMapper = new EmployeeMapper();
+	private List<Employee> employees;
+	private List<EmployeeRequestDto> requests;
+	
+	@Setup
+	public void setUp() {
+		employees = new ArrayList<>(pageSize);
+		requests = new ArrayList<>(pageSize);
+		for (int i = 0; i < pageSize; i++) {
+			String cpf = EmployeesBenchmarkContext.cpf(i);
+			employees.add(new Employee((long) i, "Employee " + i, cpf, DepartmentEnum.IT, true));
+			requests.add(new EmployeeRequestDto("Employee " + i, cpf, DepartmentEnum.IT, true));
+		}
+	}
+	
+	@Benchmark
+	public void toResponseDataDto(Blackhole blackhole) {
+		for (Employee employee : employees) {
+			blackhole.consume(employeeMapper.toResponseDataDto(employee));
+		}
+	}
+	
+	@Benchmark
+	public void toEntity(Blackhole blackhole) {
+		for (EmployeeRequestDto request : requests) {
+			blackhole.consume(employeeMapper.toEntity(request));
+		}
+	}
+}
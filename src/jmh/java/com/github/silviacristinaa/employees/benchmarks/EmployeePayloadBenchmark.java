@@ -0,0 +1,80 @@
+package com.github.silviacristinaa.employees.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.enums.PayloadFormatEnum;
+
+/**
+ * Per-page cost of encoding and decoding employee pages in each negotiable payload format, using mappers derived
+ * the same way as the application's converters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EmployeePayloadBenchmark {
+	
+	private static final TypeReference<List<EmployeeResponseDataDto>> PAGE = new TypeReference<>() {
+	};
+	
+	@Param({ "JSON", "CBOR", "SMILE" })
+	public PayloadFormatEnum format;
+	
+	@Param({ "1000" })
+	public int pageSize;
+	
+	private ObjectMapper objectMapper;
+	private List<EmployeeResponseDataDto> page;
+	private byte[] encoded;
+	
+	@Setup
+	public void setUp() throws IOException {
+		ObjectMapper jsonMapper = new ObjectMapper();
+		objectMapper = switch (format) {
+			case CBOR -> jsonMapper.copyWith(new CBORFactory());
+			case SMILE -> jsonMapper.copyWith(new SmileFactory());
+			default -> jsonMapper;
+		};
+		
+		DepartmentEnum[] departments = DepartmentEnum.values();
+		page = new ArrayList<>(pageSize);
+		for (int i = 0; i < pageSize; i++) {
+			page.add(new EmployeeResponseDataDto((long) i, "Employee " + i, EmployeesBenchmarkContext.cpf(i), 
+					departments[i % departments.length], i % 4 != 0));
+		}
+		encoded = objectMapper.writeValueAsBytes(page);
+	}
+	
+	@Benchmark
+	public byte[] encode() throws IOException {
+		return objectMapper.writeValueAsBytes(page);
+	}
+	
+	@Benchmark
+	public List<EmployeeResponseDataDto> decode() throws IOException {
+		return objectMapper.readValue(encoded, PAGE);
+	}
+}
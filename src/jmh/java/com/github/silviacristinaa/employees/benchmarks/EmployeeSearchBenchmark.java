@@ -0,0 +1,63 @@
+package com.github.silviacristinaa.employees.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.silviacristinaa.employees.indexes.EmployeeNameIndex;
+import com.github.silviacristinaa.employees.indexes.EmployeeNameIndex.Hits;
+
+/**
+ * Latency of one ranked name search page over generated names. Rare full names, common first names and short
+ * prefixes match increasingly large shares of the employees; the one-letter prefix is the worst case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EmployeeSearchBenchmark {
+
+	private static final String[] FIRST_NAMES = { "Ana", "João", "Maria", "José", "Antônio", "Francisca", "Carlos",
+			"Paulo", "Pedro", "Lucas", "Luíza", "Marcos", "Luís", "Gabriel", "Rafael", "Márcia", "Daniel", "Fernanda",
+			"Patrícia", "Aline", "Sandra", "Juliana", "Bruno", "Camila", "Eduardo", "Letícia", "Rodrigo", "Sérgio",
+			"Vitória", "Beatriz", "Tiago", "Renata" };
+	private static final String[] SURNAMES = { "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves",
+			"Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares",
+			"Fernandes", "Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques",
+			"Machado", "Mendes", "Freitas", "Cardoso", "Ramos", "Gonçalves", "Santana", "Teixeira", "Araújo" };
+
+	@Param({ "1000000" })
+	public int employees;
+
+	@Param({ "leticia andrade araujo", "maria", "mar", "s" })
+	public String query;
+
+	private EmployeeNameIndex employeeNameIndex;
+
+	@Setup
+	public void setUp() {
+		employeeNameIndex = new EmployeeNameIndex(null);
+		for (int i = 0; i < employees; i++) {
+			employeeNameIndex.put((long) i + 1, FIRST_NAMES[i % FIRST_NAMES.length] + " "
+					+ SURNAMES[(i / FIRST_NAMES.length) % SURNAMES.length] + " "
+					+ SURNAMES[(i / 7) % SURNAMES.length]);
+		}
+	}
+
+	@Benchmark
+	public Hits firstPage() {
+		return employeeNameIndex.search(query, 0, 20);
+	}
+}
@@ -0,0 +1,84 @@
+package com.github.silviacristinaa.employees.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+import com.github.silviacristinaa.employees.exceptions.ConflictException;
+import com.github.silviacristinaa.employees.services.EmployeeService;
+
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmployeeServiceBenchmark {
+	
+	private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("name"));
+	private static final Pageable DEEP_PAGE = PageRequest.of(400, 20, Sort.by("name"));
+	
+	@Param({ "10000", "100000", "1000000" })
+	public int rows;
+	
+	private ConfigurableApplicationContext context;
+	private EmployeeService employeeService;
+	private final AtomicLong nextCpf = new AtomicLong();
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = EmployeesBenchmarkContext.start("service" + rows, rows);
+		employeeService = context.getBean(EmployeeService.class);
+		nextCpf.set(rows);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public Page<EmployeeResponseDataDto> findAll() throws BadRequestException {
+		return employeeService.findAll(FIRST_PAGE);
+	}
+	
+	@Benchmark
+	public Page<EmployeeResponseDataDto> findAllDeepPage() throws BadRequestException {
+		return employeeService.findAll(DEEP_PAGE);
+	}
+	
+	@Benchmark
+	public EmployeeResponseDto findByFilters() throws BadRequestException {
+		return employeeService.findByFilters(DepartmentEnum.IT, true, FIRST_PAGE);
+	}
+	
+	@Benchmark
+	public Employee create() throws ConflictException {
+		return employeeService.create(new EmployeeRequestDto("Benchmark", 
+				EmployeesBenchmarkContext.cpf(nextCpf.getAndIncrement()), DepartmentEnum.IT, true));
+	}
+}
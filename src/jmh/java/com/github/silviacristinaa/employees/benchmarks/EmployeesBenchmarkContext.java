@@ -0,0 +1,79 @@
+package com.github.silviacristinaa.employees.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.github.silviacristinaa.employees.EmployeesApplication;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+
+/**
+ * Boots the application (without a web server unless asked for one) against an in-memory H2 database and seeds it
+ * with a configurable number of employees, so benchmarks exercise the real service, repository and mapping beans.
+ * Rows are inserted once the context is refreshed but before it is ready, so the structures loaded on
+ * ApplicationReadyEvent (CPF Bloom filter, headcounts, name index) see them.
+ */
+final class EmployeesBenchmarkContext {
+	
+	private static final int BATCH_SIZE = 5_000;
+	private static final String INSERT_EMPLOYEE = 
+			"INSERT INTO employee (name, cpf, department, enabled) VALUES (?, ?, ?, ?)";
+	
+	private EmployeesBenchmarkContext() {
+	}
+	
+	static ConfigurableApplicationContext start(String database, int rows) {
+		return start(database, rows, WebApplicationType.NONE);
+	}
+	
+	static ConfigurableApplicationContext start(String database, int rows, WebApplicationType webApplicationType, 
+			String... properties) {
+		ApplicationListener<ApplicationEvent> seeder = event -> {
+			if (event instanceof ApplicationStartedEvent started) {
+				seed(started.getApplicationContext(), rows);
+			}
+		};
+		return new SpringApplicationBuilder(EmployeesApplication.class)
+				.web(webApplicationType)
+				.listeners(seeder)
+				.properties(properties)
+				.properties(
+						"spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+						"spring.datasource.username=sa",
+						"spring.datasource.password=",
+						"spring.datasource.driverClassName=org.h2.Driver",
+						"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+						"spring.jpa.show-sql=false",
+						"spring.jpa.hibernate.ddl-auto=validate",
+						"logging.level.root=WARN")
+				.run();
+	}
+	
+	private static void seed(ConfigurableApplicationContext context, int rows) {
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		DepartmentEnum[] departments = DepartmentEnum.values();
+		
+		List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < rows; i++) {
+			batch.add(new Object[] { "Employee " + i, cpf(i), departments[i % departments.length].name(), i % 4 != 0 });
+			if (batch.size() == BATCH_SIZE) {
+				jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, batch);
+		}
+	}
+	
+	static String cpf(long sequence) {
+		return String.format("%011d", sequence);
+	}
+}
@@ -2,8 +2,10 @@ package com.github.silviacristinaa.employees;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class EmployeesApplication {
 
 	public static void main(String[] args) {
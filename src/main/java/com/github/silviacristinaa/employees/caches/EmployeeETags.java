@@ -0,0 +1,51 @@
+package com.github.silviacristinaa.employees.caches;
+
+import com.github.silviacristinaa.employees.enums.PayloadFormatEnum;
+
+/**
+ * Entity tags for employee responses and the {@code If-None-Match} comparison, which per RFC 9110 is weak:
+ * {@code W/"x"} matches {@code "x"}. A single employee gets a strong tag from its version; binary representations
+ * of the same version get their own tag, since a strong tag must change with the bytes. Lists get a weak tag, since
+ * their version is a checksum that tells changes apart with high probability but not with certainty.
+ */
+public final class EmployeeETags {
+	
+	private static final String ANY = "*";
+	private static final String WEAK_PREFIX = "W/";
+	
+	private EmployeeETags() {
+	}
+	
+	public static String of(Object version) {
+		return of(version, PayloadFormatEnum.JSON);
+	}
+	
+	public static String of(Object version, PayloadFormatEnum format) {
+		if (format.getTagSuffix().isEmpty()) {
+			return "\"" + version + "\"";
+		}
+		return "\"" + version + "+" + format.getTagSuffix() + "\"";
+	}
+	
+	public static String weak(Object version, PayloadFormatEnum format) {
+		return WEAK_PREFIX + of(version, format);
+	}
+	
+	public static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		String opaqueTag = opaqueTag(etag);
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = opaqueTag(candidate.trim());
+			if (ANY.equals(tag) || opaqueTag.equals(tag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private static String opaqueTag(String tag) {
+		return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+	}
+}
@@ -0,0 +1,158 @@
+package com.github.silviacristinaa.employees.caches;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.enums.PayloadFormatEnum;
+import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Size-bounded W-TinyLFU cache of already serialized {@code GET /employees/{id}} bodies, one per id and payload
+ * format, and the version they were serialized from, weighed by their length in bytes. Writes invalidate an id both
+ * immediately and after their transaction commits; a load that overlaps any invalidation is served but not stored,
+ * so a read racing a commit cannot put the previous state back into the cache.
+ */
+@Component
+@Profile("!reactive")
+public class EmployeeResponseCache {
+	
+	private final Cache<EmployeeKey, EmployeeBody> cache;
+	private final Map<PayloadFormatEnum, ObjectMapper> objectMappers = new EnumMap<>(PayloadFormatEnum.class);
+	private final AtomicLong invalidations = new AtomicLong();
+	
+	public EmployeeResponseCache(ObjectMapper objectMapper,
+			@Value("${employees.response-cache.maximum-bytes:67108864}") long maximumBytes) {
+		objectMappers.put(PayloadFormatEnum.JSON, objectMapper);
+		objectMappers.put(PayloadFormatEnum.CBOR, objectMapper.copyWith(new CBORFactory()));
+		objectMappers.put(PayloadFormatEnum.SMILE, objectMapper.copyWith(new SmileFactory()));
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(maximumBytes)
+				.weigher((EmployeeKey key, EmployeeBody body) -> body.getBody().length)
+				.recordStats()
+				.build();
+	}
+	
+	public EmployeeBody get(Long id, PayloadFormatEnum format, EmployeeLoader loader) throws NotFoundException {
+		EmployeeKey key = new EmployeeKey(id, format);
+		EmployeeBody body = cache.getIfPresent(key);
+		if (body != null) {
+			return body;
+		}
+		
+		long generation = invalidations.get();
+		EmployeeResponseDataDto employee = loader.load(id);
+		body = new EmployeeBody(serialize(employee, format), employee.getVersion());
+		if (generation == invalidations.get()) {
+			cache.put(key, body);
+		}
+		return body;
+	}
+	
+	/**
+	 * Returns a cached entry of any format without recording a hit or miss, for revalidating a client's copy;
+	 * every format of an id is serialized from the same version.
+	 */
+	public EmployeeBody peek(Long id) {
+		for (PayloadFormatEnum format : PayloadFormatEnum.values()) {
+			EmployeeBody body = cache.policy().getIfPresentQuietly(new EmployeeKey(id, format));
+			if (body != null) {
+				return body;
+			}
+		}
+		return null;
+	}
+	
+	public void invalidate(Long id) {
+		evict(id);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evict(id);
+				}
+			});
+		}
+	}
+	
+	/**
+	 * Invalidates every cached employee, for bulk writes whose affected ids are not known to the caller.
+	 */
+	public void invalidateAll() {
+		evictAll();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evictAll();
+				}
+			});
+		}
+	}
+	
+	public CacheStats stats() {
+		return cache.stats();
+	}
+	
+	public long estimatedSize() {
+		return cache.estimatedSize();
+	}
+	
+	private void evict(Long id) {
+		invalidations.incrementAndGet();
+		for (PayloadFormatEnum format : PayloadFormatEnum.values()) {
+			cache.invalidate(new EmployeeKey(id, format));
+		}
+	}
+	
+	private void evictAll() {
+		invalidations.incrementAndGet();
+		cache.invalidateAll();
+	}
+	
+	private byte[] serialize(EmployeeResponseDataDto employeeResponseDataDto, PayloadFormatEnum format) {
+		try {
+			return objectMappers.get(format).writeValueAsBytes(employeeResponseDataDto);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	@Getter
+	@AllArgsConstructor
+	public static final class EmployeeBody {
+		private final byte[] body;
+		private final Long version;
+	}
+	
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class EmployeeKey {
+		private final Long id;
+		private final PayloadFormatEnum format;
+	}
+	
+	@FunctionalInterface
+	public interface EmployeeLoader {
+		
+		EmployeeResponseDataDto load(Long id) throws NotFoundException;
+	}
+}
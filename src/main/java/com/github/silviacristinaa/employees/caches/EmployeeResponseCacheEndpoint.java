@@ -0,0 +1,36 @@
+package com.github.silviacristinaa.employees.caches;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@Endpoint(id = "employeecache")
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EmployeeResponseCacheEndpoint {
+	
+	private final EmployeeResponseCache employeeResponseCache;
+	
+	@ReadOperation
+	public Map<String, Object> stats() {
+		CacheStats stats = employeeResponseCache.stats();
+		
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("size", employeeResponseCache.estimatedSize());
+		response.put("hitCount", stats.hitCount());
+		response.put("missCount", stats.missCount());
+		response.put("hitRate", stats.hitRate());
+		response.put("evictionCount", stats.evictionCount());
+		response.put("evictionWeight", stats.evictionWeight());
+		return response;
+	}
+}
@@ -0,0 +1,30 @@
+package com.github.silviacristinaa.employees.configs;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * CBOR and Smile next to JSON, picked through {@code Accept} and {@code Content-Type}. Both mappers are copies of
+ * Boot's JSON mapper, so the binary formats share its modules and features instead of Spring MVC's defaults.
+ */
+@Configuration
+@Profile("!reactive")
+public class BinaryFormatsConfig {
+	
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+		return new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+	}
+	
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+		return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+	}
+}
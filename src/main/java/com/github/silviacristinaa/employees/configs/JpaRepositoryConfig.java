@@ -0,0 +1,20 @@
+package com.github.silviacristinaa.employees.configs;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+
+/**
+ * Employee is a JPA entity, so without this filter Spring Data JPA would also claim the R2DBC repository.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableJpaRepositories(basePackageClasses = EmployeeRepository.class, 
+		excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveCrudRepository.class))
+public class JpaRepositoryConfig {
+}
@@ -0,0 +1,92 @@
+package com.github.silviacristinaa.employees.configs;
+
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.accept.HeaderContentTypeResolver;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.silviacristinaa.employees.enums.PayloadFormatEnum;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@Configuration
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveWebConfig implements WebFluxConfigurer {
+	
+	private static final List<MediaType> JSON_FIRST = List.of(MediaType.APPLICATION_JSON, MediaType.ALL);
+	
+	private final ObjectMapper objectMapper;
+	
+	/**
+	 * Same CBOR and Smile support as the servlet stack; WebFlux registers neither codec with Boot's mapper. The
+	 * mime types are explicit because the mapper constructors otherwise fall back to JSON's.
+	 */
+	@Override
+	public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+		ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+		ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+		configurer.customCodecs().register(new ValueCborEncoder(cborMapper));
+		configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+		configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, PayloadFormatEnum.SMILE.getMediaType()));
+		configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, PayloadFormatEnum.SMILE.getMediaType()));
+	}
+	
+	/**
+	 * Custom codecs are consulted before the default JSON one, so a client accepting anything is steered to JSON
+	 * rather than whichever binary format was registered first.
+	 */
+	@Override
+	public void configureContentTypeResolver(RequestedContentTypeResolverBuilder builder) {
+		HeaderContentTypeResolver headerResolver = new HeaderContentTypeResolver();
+		builder.resolver(exchange -> {
+			List<MediaType> mediaTypes = headerResolver.resolveMediaTypes(exchange);
+			return RequestedContentTypeResolver.MEDIA_TYPE_ALL_LIST.equals(mediaTypes) ? JSON_FIRST : mediaTypes;
+		});
+	}
+	
+	@Override
+	public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+		configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+	}
+	
+	/**
+	 * Spring's CBOR encoder only implements single values, and the response writer goes through the streaming
+	 * method even for a {@code Mono}; each element is encoded on its own, which for a {@code Flux} yields a CBOR
+	 * sequence.
+	 */
+	private static final class ValueCborEncoder extends Jackson2CborEncoder {
+		
+		private ValueCborEncoder(ObjectMapper cborMapper) {
+			super(cborMapper, MediaType.APPLICATION_CBOR);
+		}
+		
+		@Override
+		public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, 
+				ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+			return Flux.from(inputStream).map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints));
+		}
+	}
+}
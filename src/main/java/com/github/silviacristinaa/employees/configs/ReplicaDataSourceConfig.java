@@ -0,0 +1,89 @@
+package com.github.silviacristinaa.employees.configs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.github.silviacristinaa.employees.datasources.ReplicaDataSourceProperties;
+import com.github.silviacristinaa.employees.datasources.ReplicaLagTimestampsCacheFactory;
+import com.github.silviacristinaa.employees.datasources.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces Boot's single DataSource once {@code employees.datasource.replicas} lists at least one replica. Every pool
+ * takes the {@code spring.datasource.hikari} settings; replica pools open read-only connections. The lazy proxy is the
+ * primary DataSource, so JPA, the JdbcTemplate and Flyway all go through the routing; outside read-only transactions,
+ * which includes migrations and health checks, that means the primary.
+ * 
+ * Replica reads can lag the primary by up to {@code employees.datasource.max-lag}. Query results are not cached
+ * for that long after each write to a table, so a stale result can be served but not kept, and the reads that fill
+ * the response cache go to the primary.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty("employees.datasource.replicas[0].url")
+public class ReplicaDataSourceConfig {
+
+	private static final String HIKARI_PROPERTIES = "spring.datasource.hikari";
+
+	@Bean
+	@ConfigurationProperties("employees.datasource")
+	public ReplicaDataSourceProperties replicaDataSourceProperties() {
+		return new ReplicaDataSourceProperties();
+	}
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+			ReplicaDataSourceProperties replicaDataSourceProperties, Environment environment,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		Binder binder = Binder.get(environment);
+		List<HikariDataSource> replicas = new ArrayList<>();
+		for (DataSourceProperties replica : replicaDataSourceProperties.getReplicas()) {
+			HikariDataSource pool = pool(replica, "replica-" + (replicas.size() + 1), binder, meterRegistry);
+			pool.setReadOnly(true);
+			replicas.add(pool);
+		}
+		return new ReplicaRoutingDataSource(pool(dataSourceProperties, "primary", binder, meterRegistry), replicas,
+				replicaDataSourceProperties.getRetryInterval());
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer replicaLagTimestampsCacheCustomizer(
+			ReplicaDataSourceProperties replicaDataSourceProperties) {
+		return properties -> properties.put(AvailableSettings.QUERY_CACHE_FACTORY,
+				new ReplicaLagTimestampsCacheFactory(replicaDataSourceProperties.getMaxLag()));
+	}
+
+	private static HikariDataSource pool(DataSourceProperties properties, String poolName, Binder binder,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		binder.bind(HIKARI_PROPERTIES, Bindable.ofInstance(pool));
+		pool.setPoolName(poolName);
+		meterRegistry.ifAvailable(pool::setMetricRegistry);
+		return pool;
+	}
+}
@@ -0,0 +1,22 @@
+package com.github.silviacristinaa.employees.datasources;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code employees.datasource}: connection settings of the read replicas, how long a failing replica is skipped and
+ * the longest the replicas may lag behind the primary.
+ */
+@Getter @Setter
+public class ReplicaDataSourceProperties {
+
+	private List<DataSourceProperties> replicas = new ArrayList<>();
+	private Duration retryInterval = Duration.ofSeconds(30);
+	private Duration maxLag = Duration.ofSeconds(5);
+}
@@ -0,0 +1,42 @@
+package com.github.silviacristinaa.employees.datasources;
+
+import java.time.Duration;
+
+import org.hibernate.cache.internal.TimestampsCacheEnabledImpl;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.SimpleTimestamper;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Dates every invalidation of a query space {@code maxLag} into the future, so query results cached before then count
+ * as stale. A query that read a replica which had not replayed the write yet is served once but never reused, and
+ * caching of that space resumes once the replicas have caught up.
+ *
+ * The offset is in {@link SimpleTimestamper} units, the timestamps of every {@link RegionFactoryTemplate}.
+ */
+public class ReplicaLagTimestampsCacheFactory implements TimestampsCacheFactory {
+
+	private final long maxLag;
+
+	public ReplicaLagTimestampsCacheFactory(Duration maxLag) {
+		this.maxLag = maxLag.toMillis() * SimpleTimestamper.ONE_MS;
+	}
+
+	@Override
+	public TimestampsCache buildTimestampsCache(CacheImplementor cacheImplementor, TimestampsRegion timestampsRegion) {
+		return new TimestampsCacheEnabledImpl(timestampsRegion) {
+
+			@Override
+			public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+				Long timestamp = cacheImplementor.getRegionFactory().nextTimestamp() + maxLag;
+				for (String space : spaces) {
+					timestampsRegion.putIntoCache(space, timestamp, session);
+				}
+			}
+		};
+	}
+}
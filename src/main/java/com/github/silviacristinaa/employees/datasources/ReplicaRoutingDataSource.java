@@ -0,0 +1,113 @@
+package com.github.silviacristinaa.employees.datasources;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands out replica connections to read-only transactions, in round robin, and primary connections to everything
+ * else. A replica that fails to open a connection is skipped until {@code retryInterval} has passed; when no replica
+ * is available the read falls back to the primary.
+ *
+ * The route is picked when the physical connection is opened, so this must sit behind a
+ * {@link LazyConnectionDataSourceProxy}: transaction managers ask for the connection before they mark the
+ * transaction read-only, and the proxy defers it to the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final long retryIntervalNanos;
+	private final AtomicInteger next = new AtomicInteger();
+
+	public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, Duration retryInterval) {
+		this.primary = primary;
+		this.replicas = replicas.stream().map(Replica::new).toList();
+		this.retryIntervalNanos = retryInterval.toNanos();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return route(DataSource::getConnection);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return route(dataSource -> dataSource.getConnection(username, password));
+	}
+
+	@Override
+	public void close() throws Exception {
+		for (Replica replica : replicas) {
+			close(replica.dataSource);
+		}
+		close(primary);
+	}
+
+	private Connection route(ConnectionOpener opener) throws SQLException {
+		if (!replicas.isEmpty() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+			for (int i = 0; i < replicas.size(); i++) {
+				Replica replica = replicas.get((start + i) % replicas.size());
+				if (replica.isAvailable()) {
+					try {
+						Connection connection = opener.open(replica.dataSource);
+						replica.markUp();
+						return connection;
+					} catch (SQLException e) {
+						replica.markDown(retryIntervalNanos);
+						log.warn("Replica {} unavailable, skipping it for {} ms: {}", replica.dataSource,
+								Duration.ofNanos(retryIntervalNanos).toMillis(), e.getMessage());
+					}
+				}
+			}
+		}
+		return opener.open(primary);
+	}
+
+	private static void close(DataSource dataSource) throws Exception {
+		if (dataSource instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	@FunctionalInterface
+	private interface ConnectionOpener {
+		Connection open(DataSource dataSource) throws SQLException;
+	}
+
+	private static class Replica {
+
+		private final DataSource dataSource;
+		private volatile boolean down;
+		private volatile long retryAt;
+
+		Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		boolean isAvailable() {
+			return !down || System.nanoTime() - retryAt >= 0;
+		}
+
+		void markDown(long retryIntervalNanos) {
+			retryAt = System.nanoTime() + retryIntervalNanos;
+			down = true;
+		}
+
+		void markUp() {
+			down = false;
+		}
+	}
+}
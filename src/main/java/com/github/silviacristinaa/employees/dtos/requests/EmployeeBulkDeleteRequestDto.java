@@ -0,0 +1,19 @@
+package com.github.silviacristinaa.employees.dtos.requests;
+
+import java.util.List;
+
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class EmployeeBulkDeleteRequestDto {
+	
+	private List<Long> ids;
+	private DepartmentEnum department;
+	private Boolean enabled;
+}
@@ -0,0 +1,21 @@
+package com.github.silviacristinaa.employees.dtos.requests;
+
+import java.util.List;
+
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class EmployeeBulkStatusRequestDto {
+	
+	private List<Long> ids;
+	private DepartmentEnum department;
+	@NotNull
+	private Boolean enabled;
+}
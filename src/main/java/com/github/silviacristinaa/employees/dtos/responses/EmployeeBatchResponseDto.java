@@ -0,0 +1,27 @@
+package com.github.silviacristinaa.employees.dtos.responses;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.github.silviacristinaa.employees.enums.BatchStatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@JsonInclude(Include.NON_EMPTY)
+public class EmployeeBatchResponseDto {
+	
+	private int index;
+	private Long id;
+	private String cpf;
+	private BatchStatusEnum status;
+	private List<String> errors;
+}
@@ -0,0 +1,17 @@
+package com.github.silviacristinaa.employees.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class EmployeeBulkDeleteResponseDto {
+	
+	private int deleted;
+	private int notFound;
+}
@@ -0,0 +1,16 @@
+package com.github.silviacristinaa.employees.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class EmployeeBulkStatusResponseDto {
+	
+	private int updated;
+}
@@ -0,0 +1,19 @@
+package com.github.silviacristinaa.employees.dtos.responses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class EmployeeCursorResponseDto {
+	
+	private List<EmployeeResponseDataDto> content;
+	private String next;
+}
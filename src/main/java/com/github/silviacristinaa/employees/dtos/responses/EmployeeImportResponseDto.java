@@ -0,0 +1,21 @@
+package com.github.silviacristinaa.employees.dtos.responses;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class EmployeeImportResponseDto {
+	
+	private long total;
+	private long created;
+	private long rejected;
+	private List<EmployeeImportRejectionDto> rejections;
+}
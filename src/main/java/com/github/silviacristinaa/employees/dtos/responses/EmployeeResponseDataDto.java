@@ -1,5 +1,6 @@
 package com.github.silviacristinaa.employees.dtos.responses;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
 
 import lombok.AllArgsConstructor;
@@ -17,4 +18,10 @@ public class EmployeeResponseDataDto {
 	private String cpf; 
 	private DepartmentEnum department;
 	private boolean enabled;
+	@JsonIgnore
+	private Long version;
+	
+	public EmployeeResponseDataDto(Long id, String name, String cpf, DepartmentEnum department, boolean enabled) {
+		this(id, name, cpf, department, enabled, null);
+	}
 }
\ No newline at end of file
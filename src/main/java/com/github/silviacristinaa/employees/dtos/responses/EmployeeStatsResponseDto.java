@@ -0,0 +1,20 @@
+package com.github.silviacristinaa.employees.dtos.responses;
+
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class EmployeeStatsResponseDto {
+	
+	private DepartmentEnum department;
+	private long totalActive;
+	private long totalInactive;
+}
@@ -2,6 +2,7 @@ package com.github.silviacristinaa.employees.entities;
 
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,9 +12,11 @@ import lombok.Setter;
 @NoArgsConstructor
 @Getter @Setter
 @Entity
+@DynamicUpdate
 public class Employee {
 	
 	@Id
+	@org.springframework.data.annotation.Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id; 
 	@Column(nullable = false)
@@ -25,4 +28,11 @@ public class Employee {
 	private DepartmentEnum department; 
 	@Column(nullable = false)
 	private boolean enabled;
+	@Version
+	@Column(nullable = false)
+	private Long version;
+	
+	public Employee(Long id, String name, String cpf, DepartmentEnum department, boolean enabled) {
+		this(id, name, cpf, department, enabled, null);
+	}
 }
\ No newline at end of file
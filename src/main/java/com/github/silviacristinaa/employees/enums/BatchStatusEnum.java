@@ -0,0 +1,5 @@
+package com.github.silviacristinaa.employees.enums;
+
+public enum BatchStatusEnum {
+	CREATED, CONFLICT, INVALID; 
+}
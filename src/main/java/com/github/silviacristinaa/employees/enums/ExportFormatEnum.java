@@ -0,0 +1,21 @@
+package com.github.silviacristinaa.employees.enums;
+
+public enum ExportFormatEnum {
+	NDJSON("application/x-ndjson", "ndjson"), CSV("text/csv", "csv"); 
+	
+	private final String mediaType;
+	private final String extension;
+	
+	ExportFormatEnum(String mediaType, String extension) {
+		this.mediaType = mediaType;
+		this.extension = extension;
+	}
+	
+	public String getMediaType() {
+		return mediaType;
+	}
+	
+	public String getExtension() {
+		return extension;
+	}
+}
@@ -0,0 +1,45 @@
+package com.github.silviacristinaa.employees.enums;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+public enum PayloadFormatEnum {
+	JSON(MediaType.APPLICATION_JSON, ""), 
+	CBOR(MediaType.APPLICATION_CBOR, "cbor"), 
+	SMILE(new MediaType("application", "x-jackson-smile"), "smile");
+	
+	private final MediaType mediaType;
+	private final String tagSuffix;
+	
+	PayloadFormatEnum(MediaType mediaType, String tagSuffix) {
+		this.mediaType = mediaType;
+		this.tagSuffix = tagSuffix;
+	}
+	
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+	
+	public String getTagSuffix() {
+		return tagSuffix;
+	}
+	
+	/**
+	 * First format the client accepts, in the order the content negotiation manager ranked the {@code Accept}
+	 * header; JSON when nothing matches so that errors keep their current representation.
+	 */
+	public static PayloadFormatEnum negotiate(List<MediaType> accepted) {
+		for (MediaType mediaType : accepted) {
+			if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+				return JSON;
+			}
+			for (PayloadFormatEnum format : values()) {
+				if (format.mediaType.isCompatibleWith(mediaType)) {
+					return format;
+				}
+			}
+		}
+		return JSON;
+	}
+}
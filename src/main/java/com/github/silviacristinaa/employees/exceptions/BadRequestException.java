@@ -0,0 +1,14 @@
+package com.github.silviacristinaa.employees.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(code = HttpStatus.BAD_REQUEST)
+public class BadRequestException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	public BadRequestException(final String error) {
+		super(error);
+	}
+}
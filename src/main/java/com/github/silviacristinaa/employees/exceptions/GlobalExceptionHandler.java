@@ -8,6 +8,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,6 +20,7 @@ public class GlobalExceptionHandler {
 	private static final String EXCEPTION_MSG_ARGUMENTS_NOT_VALID = "Arguments not valid";
 	private static final String CONFLICT = "Conflict";
 	private static final String NOT_FOUND_MSG = "Not found";
+	private static final String BAD_REQUEST_MSG = "Bad request";
 	
 	private static final String EXCEPTION_LOG_MSG = "e=%s,m=%s";
 	
@@ -40,6 +42,15 @@ public class GlobalExceptionHandler {
 				.errors(Arrays.asList(ex.getMessage())).build(), HttpStatus.BAD_REQUEST);
 	}
 	
+	@ExceptionHandler(WebExchangeBindException.class)
+	@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+	public ResponseEntity<ErrorMessage> handleWebExchangeBindException(final WebExchangeBindException ex) {
+		logE(ex);
+		
+		return new ResponseEntity<>(ErrorMessage.builder().message(EXCEPTION_MSG_ARGUMENTS_NOT_VALID)
+				.errors(Arrays.asList(ex.getMessage())).build(), HttpStatus.BAD_REQUEST);
+	}
+	
 	@ExceptionHandler(ConflictException.class)
 	public ResponseEntity<ErrorMessage> handleMethodArgumentConflictException(final ConflictException ex) {
 		logE(ex);
@@ -58,6 +69,15 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(errorMessage, HttpStatus.NOT_FOUND);
 	}
 	
+	@ExceptionHandler(BadRequestException.class)
+	public ResponseEntity<ErrorMessage> handleBadRequestException(final BadRequestException ex) {
+		logE(ex);
+		
+		final ErrorMessage errorMessage = ErrorMessage.builder().message(BAD_REQUEST_MSG)
+				.errors(Arrays.asList(ex.getMessage())).build();
+		return new ResponseEntity<>(errorMessage, HttpStatus.BAD_REQUEST);
+	}
+	
 	private static void logE(final Exception e) {
 	    final String message = String.format(EXCEPTION_LOG_MSG, e.getClass().getSimpleName(), e.getMessage());
 	    log.error(message, e);
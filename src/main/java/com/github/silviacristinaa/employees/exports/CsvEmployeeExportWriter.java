@@ -0,0 +1,54 @@
+package com.github.silviacristinaa.employees.exports;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+
+public class CsvEmployeeExportWriter implements EmployeeExportWriter {
+	
+	private static final String HEADER = "id,name,cpf,department,enabled";
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+	
+	private final Writer writer;
+	
+	public CsvEmployeeExportWriter(OutputStream outputStream) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		writer.write(HEADER);
+		writer.write('\n');
+	}
+	
+	@Override
+	public void write(EmployeeResponseDataDto employeeResponseDataDto) throws IOException {
+		writer.write(String.valueOf(employeeResponseDataDto.getId()));
+		writer.write(SEPARATOR);
+		writeEscaped(employeeResponseDataDto.getName());
+		writer.write(SEPARATOR);
+		writeEscaped(employeeResponseDataDto.getCpf());
+		writer.write(SEPARATOR);
+		writer.write(employeeResponseDataDto.getDepartment().name());
+		writer.write(SEPARATOR);
+		writer.write(String.valueOf(employeeResponseDataDto.isEnabled()));
+		writer.write('\n');
+	}
+	
+	@Override
+	public void finish() throws IOException {
+		writer.flush();
+	}
+	
+	private void writeEscaped(String value) throws IOException {
+		if (value.indexOf(SEPARATOR) < 0 && value.indexOf(QUOTE) < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			writer.write(value);
+			return;
+		}
+		writer.write(QUOTE);
+		writer.write(value.replace("\"", "\"\""));
+		writer.write(QUOTE);
+	}
+}
@@ -0,0 +1,12 @@
+package com.github.silviacristinaa.employees.exports;
+
+import java.io.IOException;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+
+public interface EmployeeExportWriter {
+	
+	void write(EmployeeResponseDataDto employeeResponseDataDto) throws IOException;
+	
+	void finish() throws IOException;
+}
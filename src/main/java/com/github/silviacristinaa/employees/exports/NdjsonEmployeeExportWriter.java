@@ -0,0 +1,40 @@
+package com.github.silviacristinaa.employees.exports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+
+/**
+ * Writes one JSON document per line through a single generator, so nothing but the current row is
+ * buffered beyond the generator's own output buffer. Rows are not flushed one by one: the generator
+ * writes through whenever its buffer fills, and {@link #finish()} flushes the rest.
+ */
+public class NdjsonEmployeeExportWriter implements EmployeeExportWriter {
+	
+	private final ObjectWriter objectWriter;
+	private final JsonGenerator generator;
+	
+	public NdjsonEmployeeExportWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+		this.objectWriter = objectMapper.writerFor(EmployeeResponseDataDto.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		this.generator = objectMapper.getFactory().createGenerator(outputStream)
+				.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+				.setRootValueSeparator(null);
+	}
+	
+	@Override
+	public void write(EmployeeResponseDataDto employeeResponseDataDto) throws IOException {
+		objectWriter.writeValue(generator, employeeResponseDataDto);
+		generator.writeRaw('\n');
+	}
+	
+	@Override
+	public void finish() throws IOException {
+		generator.flush();
+	}
+}
@@ -0,0 +1,133 @@
+package com.github.silviacristinaa.employees.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 reader: returns one record at a time, so only the current record is held in memory.
+ * Quoted fields may contain separators, doubled quotes and line breaks. A record longer than the record limit, or with
+ * a field longer than the field limit, is still read to its end but only its first characters are kept and
+ * {@link #isOversized()} reports it; an unclosed quote therefore costs one oversized record, not the rest of the input
+ * in memory.
+ */
+public class CsvRecordReader {
+	
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+	private static final int EOF = -1;
+	
+	private final BufferedReader reader;
+	private final int maxFieldLength;
+	private final int maxRecordLength;
+	private long line = 1;
+	private long recordLine;
+	private int recordLength;
+	private boolean oversized;
+	private int pending = EOF - 1;
+	
+	public CsvRecordReader(Reader reader, int maxFieldLength, int maxRecordLength) {
+		this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+		this.maxFieldLength = maxFieldLength;
+		this.maxRecordLength = maxRecordLength;
+	}
+	
+	/**
+	 * Line number on which the last record returned by {@link #next()} started.
+	 */
+	public long getRecordLine() {
+		return recordLine;
+	}
+	
+	/**
+	 * Whether the last record returned by {@link #next()} exceeded the field or record limit and was cut short.
+	 */
+	public boolean isOversized() {
+		return oversized;
+	}
+	
+	public List<String> next() throws IOException {
+		int c = read();
+		if (c == EOF) {
+			return null;
+		}
+		recordLine = line;
+		recordLength = 0;
+		oversized = false;
+		
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		while (true) {
+			if (quoted) {
+				if (c == EOF) {
+					addField(fields, field);
+					return fields;
+				}
+				if (c == QUOTE) {
+					int next = read();
+					if (next == QUOTE) {
+						append(field, QUOTE);
+					} else {
+						quoted = false;
+						c = next;
+						continue;
+					}
+				} else {
+					if (c == '\n') {
+						line++;
+					}
+					append(field, (char) c);
+				}
+			} else if (c == QUOTE && field.length() == 0) {
+				quoted = true;
+			} else if (c == SEPARATOR) {
+				addField(fields, field);
+				field.setLength(0);
+			} else if (c == '\r' || c == '\n' || c == EOF) {
+				if (c == '\r') {
+					int next = read();
+					if (next != '\n') {
+						pending = next;
+					}
+				}
+				if (c != EOF) {
+					line++;
+				}
+				addField(fields, field);
+				return fields;
+			} else {
+				append(field, (char) c);
+			}
+			c = read();
+			recordLength++;
+		}
+	}
+	
+	private void append(StringBuilder field, char c) {
+		if (field.length() < maxFieldLength && recordLength < maxRecordLength) {
+			field.append(c);
+		} else {
+			oversized = true;
+		}
+	}
+	
+	private void addField(List<String> fields, StringBuilder field) {
+		if (recordLength < maxRecordLength) {
+			fields.add(field.toString());
+		} else {
+			oversized = true;
+		}
+	}
+	
+	private int read() throws IOException {
+		if (pending != EOF - 1) {
+			int c = pending;
+			pending = EOF - 1;
+			return c;
+		}
+		return reader.read();
+	}
+}
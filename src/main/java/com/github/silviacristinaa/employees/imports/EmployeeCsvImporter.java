@@ -0,0 +1,238 @@
+package com.github.silviacristinaa.employees.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBatchResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeImportRejectionDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeImportResponseDto;
+import com.github.silviacristinaa.employees.enums.BatchStatusEnum;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+import com.github.silviacristinaa.employees.exceptions.ConflictException;
+import com.github.silviacristinaa.employees.services.EmployeeService;
+
+/**
+ * Imports employees from a CSV stream in fixed-size chunks: each chunk is parsed and then handed to
+ * {@link EmployeeService#createAll(List)}, which validates it and commits it in its own transaction through the JDBC
+ * batch path. Only the current chunk, records of bounded length and a bounded list of rejected lines are kept in
+ * memory.
+ */
+@Component
+@Profile("!reactive")
+public class EmployeeCsvImporter {
+	
+	private static final String NAME = "name";
+	private static final String CPF = "cpf";
+	private static final String DEPARTMENT = "department";
+	private static final String ENABLED = "enabled";
+	private static final List<String> REQUIRED_COLUMNS = List.of(NAME, CPF, DEPARTMENT);
+	private static final int MAX_CHUNK_SIZE = 10_000;
+	private static final int MAX_FIELD_LENGTH = 1_024;
+	private static final int MAX_RECORD_LENGTH = 8_192;
+	private static final String HEADER_REQUIRED = "CSV header is required";
+	private static final String HEADER_TOO_LONG = String.format("CSV header must be at most %s characters", 
+			MAX_RECORD_LENGTH);
+	private static final String RECORD_TOO_LONG = String.format(
+			"record must be at most %s characters, with fields of at most %s characters", MAX_RECORD_LENGTH, MAX_FIELD_LENGTH);
+	private static final String MISSING_COLUMN = "Missing CSV column %s";
+	private static final String INVALID_FIELD_COUNT = "expected %s fields but found %s";
+	private static final String INVALID_DEPARTMENT = "department must be one of " + Arrays.toString(DepartmentEnum.values());
+	private static final String INVALID_ENABLED = "enabled must be true or false";
+	private static final String INVALID_CPF = "cpf must be a valid CPF";
+	
+	private final EmployeeService employeeService;
+	private final int chunkSize;
+	private final int maxReportedRejections;
+	
+	public EmployeeCsvImporter(EmployeeService employeeService, 
+			@Value("${employees.import.chunk-size:1000}") int chunkSize, 
+			@Value("${employees.import.max-reported-rejections:1000}") int maxReportedRejections) {
+		this.employeeService = employeeService;
+		this.chunkSize = Math.max(1, Math.min(chunkSize, MAX_CHUNK_SIZE));
+		this.maxReportedRejections = maxReportedRejections;
+	}
+	
+	public EmployeeImportResponseDto importCsv(Reader reader) throws IOException, BadRequestException {
+		CsvRecordReader records = new CsvRecordReader(reader, MAX_FIELD_LENGTH, MAX_RECORD_LENGTH);
+		List<String> header = records.next();
+		if (records.isOversized()) {
+			throw new BadRequestException(HEADER_TOO_LONG);
+		}
+		Map<String, Integer> columns = columns(header);
+		
+		EmployeeImportResponseDto report = EmployeeImportResponseDto.builder().rejections(new ArrayList<>()).build();
+		List<ImportRow> chunk = new ArrayList<>(chunkSize);
+		List<String> fields;
+		while ((fields = records.next()) != null) {
+			if (fields.size() == 1 && fields.get(0).isBlank() && !records.isOversized()) {
+				continue;
+			}
+			ImportRow row = new ImportRow(records.getRecordLine(), fields);
+			if (records.isOversized()) {
+				row.errors.add(RECORD_TOO_LONG);
+			}
+			chunk.add(row);
+			if (chunk.size() == chunkSize) {
+				importChunk(chunk, columns, header.size(), report);
+				chunk.clear();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			importChunk(chunk, columns, header.size(), report);
+		}
+		return report;
+	}
+	
+	private void importChunk(List<ImportRow> chunk, Map<String, Integer> columns, int columnCount, 
+			EmployeeImportResponseDto report) throws BadRequestException {
+		for (ImportRow row : chunk) {
+			if (row.errors.isEmpty()) {
+				parse(row, columns, columnCount);
+			}
+		}
+		report.setTotal(report.getTotal() + chunk.size());
+		
+		List<ImportRow> valid = new ArrayList<>(chunk.size());
+		for (ImportRow row : chunk) {
+			if (row.errors.isEmpty()) {
+				valid.add(row);
+			} else {
+				row.status = BatchStatusEnum.INVALID;
+			}
+		}
+		if (!valid.isEmpty()) {
+			try {
+				List<EmployeeBatchResponseDto> results = employeeService.createAll(valid.stream()
+						.map(row -> row.employeeRequestDto).collect(Collectors.toList()));
+				for (int i = 0; i < results.size(); i++) {
+					valid.get(i).status = results.get(i).getStatus();
+					if (results.get(i).getErrors() != null) {
+						valid.get(i).errors.addAll(results.get(i).getErrors());
+					}
+				}
+			} catch (ConflictException e) {
+				valid.forEach(row -> {
+					row.status = BatchStatusEnum.CONFLICT;
+					row.errors.add(e.getMessage());
+				});
+			}
+		}
+		
+		for (ImportRow row : chunk) {
+			if (row.status == BatchStatusEnum.CREATED) {
+				report.setCreated(report.getCreated() + 1);
+			} else {
+				reject(report, row);
+			}
+		}
+	}
+	
+	private void parse(ImportRow row, Map<String, Integer> columns, int columnCount) {
+		if (row.fields.size() != columnCount) {
+			row.errors.add(String.format(INVALID_FIELD_COUNT, columnCount, row.fields.size()));
+			return;
+		}
+		
+		EmployeeRequestDto employeeRequestDto = new EmployeeRequestDto();
+		employeeRequestDto.setName(field(row, columns, NAME));
+		employeeRequestDto.setCpf(field(row, columns, CPF));
+		
+		String department = field(row, columns, DEPARTMENT);
+		if (!department.isEmpty()) {
+			try {
+				employeeRequestDto.setDepartment(DepartmentEnum.valueOf(department.toUpperCase(Locale.ROOT)));
+			} catch (IllegalArgumentException e) {
+				row.errors.add(INVALID_DEPARTMENT);
+			}
+		}
+		
+		String enabled = field(row, columns, ENABLED);
+		if (Boolean.TRUE.toString().equalsIgnoreCase(enabled)) {
+			employeeRequestDto.setEnabled(true);
+		} else if (!enabled.isEmpty() && !Boolean.FALSE.toString().equalsIgnoreCase(enabled)) {
+			row.errors.add(INVALID_ENABLED);
+		}
+		
+		if (!employeeRequestDto.getCpf().isEmpty() && !isValidCpf(employeeRequestDto.getCpf())) {
+			row.errors.add(INVALID_CPF);
+		}
+		row.employeeRequestDto = employeeRequestDto;
+	}
+	
+	private void reject(EmployeeImportResponseDto report, ImportRow row) {
+		report.setRejected(report.getRejected() + 1);
+		if (report.getRejections().size() < maxReportedRejections) {
+			report.getRejections().add(EmployeeImportRejectionDto.builder().line(row.line)
+					.cpf(row.employeeRequestDto == null ? null : row.employeeRequestDto.getCpf())
+					.status(row.status).errors(row.errors).build());
+		}
+	}
+	
+	/**
+	 * Maps each known column to its position. Unknown columns (such as the {@code id} written by the export) are
+	 * ignored and {@code enabled} is optional.
+	 */
+	private static Map<String, Integer> columns(List<String> header) throws BadRequestException {
+		if (header == null) {
+			throw new BadRequestException(HEADER_REQUIRED);
+		}
+		Map<String, Integer> columns = new HashMap<>();
+		for (int i = 0; i < header.size(); i++) {
+			columns.putIfAbsent(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+		}
+		for (String column : REQUIRED_COLUMNS) {
+			if (!columns.containsKey(column)) {
+				throw new BadRequestException(String.format(MISSING_COLUMN, column));
+			}
+		}
+		return columns;
+	}
+	
+	private static String field(ImportRow row, Map<String, Integer> columns, String column) {
+		Integer index = columns.get(column);
+		return index == null ? "" : row.fields.get(index).trim();
+	}
+	
+	static boolean isValidCpf(String cpf) {
+		if (cpf.length() != 11 || !cpf.chars().allMatch(Character::isDigit)) {
+			return false;
+		}
+		return checkDigit(cpf, 9) == cpf.charAt(9) - '0' && checkDigit(cpf, 10) == cpf.charAt(10) - '0';
+	}
+	
+	private static int checkDigit(String cpf, int length) {
+		int sum = 0;
+		for (int i = 0; i < length; i++) {
+			sum += (cpf.charAt(i) - '0') * (length + 1 - i);
+		}
+		int digit = 11 - sum % 11;
+		return digit >= 10 ? 0 : digit;
+	}
+	
+	private static class ImportRow {
+		
+		private final long line;
+		private final List<String> fields;
+		private final List<String> errors = new ArrayList<>();
+		private EmployeeRequestDto employeeRequestDto;
+		private BatchStatusEnum status;
+		
+		private ImportRow(long line, List<String> fields) {
+			this.line = line;
+			this.fields = fields;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.github.silviacristinaa.employees.indexes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counting Bloom filter of registered CPFs. A negative answer is definitive, so writes can skip the
+ * {@code findByCpf} round trip for CPFs that were never registered; a positive answer only means "maybe"
+ * and the caller falls back to the database. Uniqueness itself is always enforced by the unique constraint
+ * on {@code employee.cpf}, so a stale entry can cost an extra lookup but never a wrong answer.
+ * 
+ * Until the filter is seeded from the database every CPF is reported as possibly registered. It is seeded in a
+ * read-write transaction so that it is read from the primary: a lagging replica would miss recent CPFs.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class CpfBloomFilter {
+	
+	private static final double LN2 = Math.log(2);
+	
+	private final byte[] counters;
+	private final int hashFunctions;
+	private final EmployeeRepository employeeRepository;
+	private volatile boolean ready;
+	
+	public CpfBloomFilter(EmployeeRepository employeeRepository,
+			@Value("${employees.cpf-filter.expected-insertions:1000000}") int expectedInsertions,
+			@Value("${employees.cpf-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+		this.employeeRepository = employeeRepository;
+		long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+		this.counters = new byte[(int) Math.min(Math.max(size, Byte.SIZE), Integer.MAX_VALUE - Byte.SIZE)];
+		this.hashFunctions = Math.max(1, (int) Math.round((double) counters.length / expectedInsertions * LN2));
+	}
+	
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void load() {
+		try (Stream<String> cpfs = employeeRepository.streamAllCpfs()) {
+			cpfs.forEach(this::add);
+		}
+		ready = true;
+		log.info("Cpf filter loaded with {} counters and {} hash functions", counters.length, hashFunctions);
+	}
+	
+	public boolean mightContain(String cpf) {
+		if (!ready) {
+			return true;
+		}
+		long hash = hash(cpf);
+		synchronized (counters) {
+			for (int i = 0; i < hashFunctions; i++) {
+				if (counters[index(hash, i)] == 0) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	public void add(String cpf) {
+		long hash = hash(cpf);
+		synchronized (counters) {
+			for (int i = 0; i < hashFunctions; i++) {
+				int index = index(hash, i);
+				if (counters[index] != Byte.MAX_VALUE) {
+					counters[index]++;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Counters that saturated are never decremented, since their real count is unknown; that only keeps a
+	 * CPF reported as "maybe registered".
+	 */
+	public void remove(String cpf) {
+		long hash = hash(cpf);
+		synchronized (counters) {
+			for (int i = 0; i < hashFunctions; i++) {
+				int index = index(hash, i);
+				if (counters[index] != Byte.MAX_VALUE && counters[index] != 0) {
+					counters[index]--;
+				}
+			}
+		}
+	}
+	
+	private int index(long hash, int i) {
+		int combined = (int) hash + i * (int) (hash >>> 32);
+		return Math.floorMod(combined, counters.length);
+	}
+	
+	private static long hash(String cpf) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : cpf.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		return hash ^ (hash >>> 33);
+	}
+}
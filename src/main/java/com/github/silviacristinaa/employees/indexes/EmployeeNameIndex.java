@@ -0,0 +1,465 @@
+package com.github.silviacristinaa.employees.indexes;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeName;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index of employee names: every token of the name, lower-cased and stripped of accents, maps to
+ * the sorted ordinals of the employees carrying it. A search term matches any token it prefixes, and an employee
+ * matches when every term does. Ranking favours exact tokens over prefixes, the first token of the name and shorter
+ * names, then older employees.
+ *
+ * Ordinals are dense, so term matches are unioned and intersected as bitsets and a page is picked with a bounded heap.
+ * Search cost grows with the postings a query expands to: whole names and selective prefixes stay under a millisecond
+ * over a million employees, while one- to three-letter prefixes of common tokens cost a few milliseconds. Deleted
+ * employees leave their ordinal behind until the next rebuild, which runs at startup and periodically.
+ * The service applies its writes after they commit; writes that commit while a rebuild runs are replayed onto the
+ * rebuilt index, and the periodic rebuild corrects writes that bypass the service.
+ * 
+ * Until the index is first built searches find nothing.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EmployeeNameIndex {
+
+	private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+	private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final String[] NO_TOKENS = new String[0];
+	private static final int MAX_SCORE = 0xFF;
+	private static final long ORDINAL_MASK = 0x7FFFFFFFL;
+
+	private final EmployeeRepository employeeRepository;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private Postings postings = new Postings();
+	private List<Consumer<Postings>> pendingWrites;
+
+	/**
+	 * Reads every name from the primary, in a read-write transaction so a lagging replica cannot drop recent
+	 * employees, and swaps the new postings in at once.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${employees.search.rebuild-interval:PT1H}",
+			initialDelayString = "${employees.search.rebuild-interval:PT1H}")
+	@Transactional
+	public synchronized void rebuild() {
+		Postings rebuilt = new Postings();
+		write(() -> pendingWrites = new ArrayList<>());
+		try (Stream<EmployeeName> names = employeeRepository.streamAllNames()) {
+			names.forEach(employee -> rebuilt.put(employee.getId(), tokenize(employee.getName())));
+		} catch (RuntimeException e) {
+			write(() -> pendingWrites = null);
+			throw e;
+		}
+		write(() -> {
+			pendingWrites.forEach(pending -> pending.accept(rebuilt));
+			pendingWrites = null;
+			postings = rebuilt;
+		});
+		log.info("Employee name index built with {} employees and {} tokens", rebuilt.live, rebuilt.terms.size());
+	}
+
+	/**
+	 * Ids of the {@code size} best ranked employees after skipping {@code offset}, with the total number of matches.
+	 */
+	public Hits search(String query, int offset, int size) {
+		String[] terms = tokenize(query);
+		if (terms.length == 0) {
+			return new Hits(List.of(), 0);
+		}
+		lock.readLock().lock();
+		try {
+			return postings.search(terms, offset, size);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Indexes the employee, or re-indexes it under its new name, once the current transaction commits.
+	 */
+	public void put(Long id, String name) {
+		String[] tokens = tokenize(name);
+		afterCommit(index -> index.put(id, tokens));
+	}
+
+	public void remove(Long id) {
+		afterCommit(index -> index.remove(id));
+	}
+
+	/**
+	 * Removes the employees once the current transaction commits, with a single callback for all of them.
+	 */
+	public void removeAll(Collection<Long> ids) {
+		long[] removed = ids.stream().mapToLong(Long::longValue).toArray();
+		afterCommit(index -> {
+			for (long id : removed) {
+				index.remove(id);
+			}
+		});
+	}
+
+	/**
+	 * Lower-cased, accent-free tokens of the text, split on anything that is not a letter or a digit.
+	 */
+	static String[] tokenize(String text) {
+		if (text == null) {
+			return NO_TOKENS;
+		}
+		String normalized = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+				.toLowerCase(Locale.ROOT);
+		return Arrays.stream(SEPARATORS.split(normalized)).filter(token -> !token.isEmpty()).toArray(String[]::new);
+	}
+
+	private void afterCommit(Consumer<Postings> update) {
+		Runnable apply = () -> write(() -> {
+			update.accept(postings);
+			if (pendingWrites != null) {
+				pendingWrites.add(update);
+			}
+		});
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply.run();
+			}
+		});
+	}
+
+	private void write(Runnable update) {
+		lock.writeLock().lock();
+		try {
+			update.run();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Hits {
+
+		private final List<Long> ids;
+		private final long total;
+	}
+
+	/**
+	 * The index itself. Not thread-safe: readers hold the read lock and writers the write lock. A posting entry is
+	 * {@code ordinal << 1}, plus 1 when the token is the first of the name, so ranking never reads the names.
+	 */
+	private static class Postings {
+
+		private final NavigableMap<String, SortedInts> terms = new TreeMap<>();
+		private final OrdinalTable ordinals = new OrdinalTable();
+		private long[] ids = new long[1024];
+		private short[] lengths = new short[1024];
+		private String[][] tokens = new String[1024][];
+		private int size;
+		private int live;
+
+		void put(Long id, String[] newTokens) {
+			int ordinal = ordinals.get(id);
+			if (ordinal < 0) {
+				ordinal = append(id);
+			} else if (tokens[ordinal] != null) {
+				if (Arrays.equals(tokens[ordinal], newTokens)) {
+					return;
+				}
+				unindex(ordinal);
+			}
+			tokens[ordinal] = newTokens;
+			live++;
+			int length = 0;
+			for (int i = 0; i < newTokens.length; i++) {
+				terms.computeIfAbsent(newTokens[i], key -> new SortedInts()).add(entry(ordinal, i));
+				length += newTokens[i].length();
+			}
+			lengths[ordinal] = (short) Math.min(length, Short.MAX_VALUE);
+		}
+
+		void remove(Long id) {
+			int ordinal = ordinals.get(id);
+			if (ordinal >= 0 && tokens[ordinal] != null) {
+				unindex(ordinal);
+			}
+		}
+
+		/**
+		 * Per query term, a token scores 2 when exact and 1 as a prefix, plus 1 as the first token of the name. Each
+		 * term expands to three bitsets, every match and the matches scoring at least 2 and 3, and the employees in
+		 * all terms' matches are ranked by total score, then name length, then ordinal, which is id order after a
+		 * rebuild. Ranks are packed into longs and the best {@code offset + size} kept in a max-heap, so a match that
+		 * does not make the page costs one comparison and no allocation.
+		 */
+		Hits search(String[] queryTerms, int offset, int size) {
+			BitSet matches = null;
+			BitSet[] scoringTwo = new BitSet[queryTerms.length];
+			BitSet[] scoringThree = new BitSet[queryTerms.length];
+			for (int t = 0; t < queryTerms.length; t++) {
+				String term = queryTerms[t];
+				BitSet termMatches = new BitSet(this.size);
+				scoringTwo[t] = new BitSet(this.size);
+				scoringThree[t] = new BitSet(this.size);
+				for (Map.Entry<String, SortedInts> expansion 
+						: terms.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+					if (expansion.getKey().length() == term.length()) {
+						expansion.getValue().addTo(termMatches, scoringThree[t], scoringTwo[t]);
+					} else {
+						expansion.getValue().addTo(termMatches, scoringTwo[t], null);
+					}
+				}
+				if (matches == null) {
+					matches = termMatches;
+				} else {
+					matches.and(termMatches);
+				}
+				if (matches.isEmpty()) {
+					return new Hits(List.of(), 0);
+				}
+			}
+
+			int window = offset + size;
+			long[] best = new long[window];
+			int kept = 0;
+			int total = 0;
+			for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+				total++;
+				int score = 0;
+				for (int t = 0; t < queryTerms.length; t++) {
+					score += scoringThree[t].get(ordinal) ? 3 : scoringTwo[t].get(ordinal) ? 2 : 1;
+				}
+				long rank = (long) (MAX_SCORE - Math.min(score, MAX_SCORE)) << 47 | (long) lengths[ordinal] << 31 
+						| ordinal;
+				if (kept < window) {
+					best[kept] = rank;
+					siftUp(best, kept++);
+				} else if (window > 0 && rank < best[0]) {
+					best[0] = rank;
+					siftDown(best, kept);
+				}
+			}
+
+			Arrays.sort(best, 0, kept);
+			List<Long> page = new ArrayList<>(size);
+			for (int i = offset; i < kept; i++) {
+				page.add(ids[(int) (best[i] & ORDINAL_MASK)]);
+			}
+			return new Hits(page, total);
+		}
+
+		private int append(Long id) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+				lengths = Arrays.copyOf(lengths, size * 2);
+				tokens = Arrays.copyOf(tokens, size * 2);
+			}
+			ids[size] = id;
+			ordinals.put(id, size);
+			return size++;
+		}
+
+		private void unindex(int ordinal) {
+			String[] previous = tokens[ordinal];
+			for (int i = 0; i < previous.length; i++) {
+				SortedInts posting = terms.get(previous[i]);
+				if (posting != null && posting.remove(entry(ordinal, i)) && posting.isEmpty()) {
+					terms.remove(previous[i]);
+				}
+			}
+			tokens[ordinal] = null;
+			live--;
+		}
+
+		private static int entry(int ordinal, int position) {
+			return ordinal << 1 | (position == 0 ? 1 : 0);
+		}
+
+		private static void siftUp(long[] heap, int index) {
+			while (index > 0) {
+				int parent = (index - 1) >>> 1;
+				if (heap[parent] >= heap[index]) {
+					return;
+				}
+				swap(heap, parent, index);
+				index = parent;
+			}
+		}
+
+		private static void siftDown(long[] heap, int size) {
+			int index = 0;
+			while (true) {
+				int largest = index;
+				int left = 2 * index + 1;
+				if (left < size && heap[left] > heap[largest]) {
+					largest = left;
+				}
+				if (left + 1 < size && heap[left + 1] > heap[largest]) {
+					largest = left + 1;
+				}
+				if (largest == index) {
+					return;
+				}
+				swap(heap, index, largest);
+				index = largest;
+			}
+		}
+
+		private static void swap(long[] heap, int i, int j) {
+			long value = heap[i];
+			heap[i] = heap[j];
+			heap[j] = value;
+		}
+	}
+
+	/**
+	 * Growable sorted array of distinct posting entries. Ordinals are handed out in increasing order, so adds are
+	 * appends except when an employee is renamed.
+	 */
+	private static class SortedInts {
+
+		private int[] values = new int[4];
+		private int size;
+
+		void add(int value) {
+			int index = size == 0 || values[size - 1] < value ? -size - 1 : Arrays.binarySearch(values, 0, size, value);
+			if (index >= 0) {
+				return;
+			}
+			index = -index - 1;
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			System.arraycopy(values, index, values, index + 1, size - index);
+			values[index] = value;
+			size++;
+		}
+
+		boolean remove(int value) {
+			int index = Arrays.binarySearch(values, 0, size, value);
+			if (index < 0) {
+				return false;
+			}
+			System.arraycopy(values, index + 1, values, index, size - index - 1);
+			size--;
+			return true;
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		/**
+		 * Sets every ordinal in {@code all}, and in {@code first} or {@code other} depending on whether the token is
+		 * the first of the name.
+		 */
+		void addTo(BitSet all, BitSet first, BitSet other) {
+			for (int i = 0; i < size; i++) {
+				int ordinal = values[i] >>> 1;
+				all.set(ordinal);
+				if ((values[i] & 1) == 1) {
+					first.set(ordinal);
+				} else if (other != null) {
+					other.set(ordinal);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Open-addressing map from employee id to ordinal, so a million ids cost two primitive arrays instead of a
+	 * million boxed entries. Ordinals are never reclaimed, so there is no removal.
+	 */
+	private static class OrdinalTable {
+
+		private static final long EMPTY = Long.MIN_VALUE;
+
+		private long[] keys = newKeys(1024);
+		private int[] values = new int[1024];
+		private int size;
+
+		int get(long id) {
+			int mask = keys.length - 1;
+			for (int slot = slot(id, mask); keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+				if (keys[slot] == id) {
+					return values[slot];
+				}
+			}
+			return -1;
+		}
+
+		void put(long id, int ordinal) {
+			if ((size + 1) * 2 > keys.length) {
+				resize();
+			}
+			int mask = keys.length - 1;
+			int slot = slot(id, mask);
+			while (keys[slot] != EMPTY && keys[slot] != id) {
+				slot = (slot + 1) & mask;
+			}
+			if (keys[slot] == EMPTY) {
+				size++;
+			}
+			keys[slot] = id;
+			values[slot] = ordinal;
+		}
+
+		private void resize() {
+			long[] oldKeys = keys;
+			int[] oldValues = values;
+			keys = newKeys(oldKeys.length * 2);
+			values = new int[oldKeys.length * 2];
+			size = 0;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != EMPTY) {
+					put(oldKeys[i], oldValues[i]);
+				}
+			}
+		}
+
+		private static int slot(long id, int mask) {
+			long hash = id * 0x9E3779B97F4A7C15L;
+			return (int) (hash ^ (hash >>> 32)) & mask;
+		}
+
+		private static long[] newKeys(int capacity) {
+			long[] keys = new long[capacity];
+			Arrays.fill(keys, EMPTY);
+			return keys;
+		}
+	}
+}
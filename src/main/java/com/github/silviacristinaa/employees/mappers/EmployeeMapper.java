@@ -0,0 +1,28 @@
+package com.github.silviacristinaa.employees.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+
+@Component
+public class EmployeeMapper {
+
+	public Employee toEntity(EmployeeRequestDto employeeRequestDto) {
+		return new Employee(null, employeeRequestDto.getName(), employeeRequestDto.getCpf(),
+				employeeRequestDto.getDepartment(), employeeRequestDto.isEnabled());
+	}
+	
+	public void updateEntity(Employee employee, EmployeeRequestDto employeeRequestDto) {
+		employee.setName(employeeRequestDto.getName());
+		employee.setCpf(employeeRequestDto.getCpf());
+		employee.setDepartment(employeeRequestDto.getDepartment());
+		employee.setEnabled(employeeRequestDto.isEnabled());
+	}
+	
+	public EmployeeResponseDataDto toResponseDataDto(Employee employee) {
+		return new EmployeeResponseDataDto(employee.getId(), employee.getName(), employee.getCpf(),
+				employee.getDepartment(), employee.isEnabled(), employee.getVersion());
+	}
+}
@@ -0,0 +1,108 @@
+package com.github.silviacristinaa.employees.metrics;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeCursorResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.repositories.EmployeeJdbcRepository;
+import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+import com.github.silviacristinaa.employees.services.EmployeeService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Times every {@link EmployeeService} method and every employee repository call, records how many rows each call
+ * returned and counts the exceptions it threw, tagged by class and method. Percentiles and histogram buckets for
+ * the {@code employees.*} meters are configured under {@code management.metrics.distribution}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class EmployeeMetricsAspect {
+	
+	private static final String SERVICE = "employees.service";
+	private static final String REPOSITORY = "employees.repository";
+	private static final String ROWS = ".rows";
+	private static final String EXCEPTIONS = "employees.exceptions";
+	private static final String CLASS = "class";
+	private static final String METHOD = "method";
+	private static final String EXCEPTION = "exception";
+	private static final String NONE = "none";
+	
+	private final MeterRegistry meterRegistry;
+	
+	@Around("target(com.github.silviacristinaa.employees.services.EmployeeService) "
+			+ "&& !execution(* java.lang.Object.*(..))")
+	public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(SERVICE, EmployeeService.class.getSimpleName(), joinPoint);
+	}
+	
+	@Around("(target(com.github.silviacristinaa.employees.repositories.EmployeeRepository) "
+			+ "|| target(com.github.silviacristinaa.employees.repositories.EmployeeJdbcRepository)) "
+			+ "&& !execution(* java.lang.Object.*(..))")
+	public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		String repository = joinPoint.getTarget() instanceof EmployeeJdbcRepository 
+				? EmployeeJdbcRepository.class.getSimpleName() : EmployeeRepository.class.getSimpleName();
+		return record(REPOSITORY, repository, joinPoint);
+	}
+	
+	private Object record(String name, String owner, ProceedingJoinPoint joinPoint) throws Throwable {
+		String method = joinPoint.getSignature().getName();
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String exception = NONE;
+		try {
+			Object result = joinPoint.proceed();
+			Integer rows = rows(result);
+			if (rows != null) {
+				DistributionSummary.builder(name + ROWS).tag(CLASS, owner).tag(METHOD, method)
+						.register(meterRegistry).record(rows);
+			}
+			return result;
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+			meterRegistry.counter(EXCEPTIONS, CLASS, owner, METHOD, method, EXCEPTION, exception).increment();
+			throw e;
+		} finally {
+			sample.stop(Timer.builder(name).tag(CLASS, owner).tag(METHOD, method).tag(EXCEPTION, exception)
+					.register(meterRegistry));
+		}
+	}
+	
+	/**
+	 * Rows carried by a return value, or {@code null} when it is not a row result (void, counts, lazy streams that
+	 * have not been consumed yet).
+	 */
+	static Integer rows(Object result) {
+		if (result instanceof Slice<?> slice) {
+			return slice.getNumberOfElements();
+		}
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+		if (result instanceof Optional<?> optional) {
+			return optional.isPresent() ? 1 : 0;
+		}
+		if (result instanceof EmployeeResponseDto employeeResponseDto) {
+			return employeeResponseDto.getEmployeeResponseDataDto().getNumberOfElements();
+		}
+		if (result instanceof EmployeeCursorResponseDto employeeCursorResponseDto) {
+			return employeeCursorResponseDto.getContent().size();
+		}
+		if (result instanceof Employee || result instanceof EmployeeResponseDataDto) {
+			return 1;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,43 @@
+package com.github.silviacristinaa.employees.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Opaque keyset position of an employee listing: the sort key, the value of that key and the id of the
+ * last employee returned. Encoded as URL-safe Base64 so clients treat it as a token.
+ */
+@AllArgsConstructor
+@Getter
+public class EmployeeCursor {
+	
+	private static final String INVALID_CURSOR = "Invalid cursor";
+	private static final String SEPARATOR = "\n";
+	
+	private final String key;
+	private final String value;
+	private final Long id;
+	
+	public String encode() {
+		String raw = key + SEPARATOR + id + SEPARATOR + value;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	public static EmployeeCursor decode(String token) throws BadRequestException {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(SEPARATOR, 3);
+			if (parts.length != 3) {
+				throw new BadRequestException(INVALID_CURSOR);
+			}
+			return new EmployeeCursor(parts[0], parts[2], Long.valueOf(parts[1]));
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException(INVALID_CURSOR);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.github.silviacristinaa.employees.pagination;
+
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+
+/**
+ * Sort whitelist shared by the blocking and reactive listings: only known columns can be sorted on and an
+ * {@code id} tie-breaker is appended so pages stay stable when the sort key repeats.
+ */
+public final class EmployeePageables {
+	
+	private static final String ID = "id";
+	private static final Set<String> SORTABLE_FIELDS = Set.of(ID, "name", "cpf", "department", "enabled");
+	private static final String SORT_NOT_ALLOWED = "Sort by %s is not allowed";
+	
+	private EmployeePageables() {
+	}
+	
+	public static Pageable sortable(Pageable pageable) throws BadRequestException {
+		for (Sort.Order order : pageable.getSort()) {
+			if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+				throw new BadRequestException(String.format(SORT_NOT_ALLOWED, order.getProperty()));
+			}
+		}
+		if (pageable.isUnpaged()) {
+			return pageable;
+		}
+		
+		Sort sort = pageable.getSort();
+		if (sort.getOrderFor(ID) == null) {
+			sort = sort.and(Sort.by(ID));
+		}
+		return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+	}
+}
@@ -0,0 +1,158 @@
+package com.github.silviacristinaa.employees.queues;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.services.EmployeeService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind queue for single-employee status changes, on with {@code employees.status-queue.enabled=true}. A
+ * queued change is acknowledged at once and supersedes any change still pending for the same employee; every
+ * {@code employees.status-queue.flush-interval} the last status per employee is applied through the bulk status
+ * update, one grouped count and one UPDATE per status and chunk of ids.
+ *
+ * What callers get in exchange for the latency:
+ * <ul>
+ * <li>Acknowledged changes live only in memory until flushed: a crash loses up to one interval of them. Senders
+ * that need durability must resend, which status toggles tolerate since the last value wins.</li>
+ * <li>Until the flush, reads, ETags and headcounts still show the previous status, and unknown ids are dropped by the
+ * UPDATE instead of answering 404.</li>
+ * <li>A flush that fails on the database or its transaction puts its changes back unless a newer one was queued
+ * meanwhile, and retries on the next interval. Changes failing for any other reason would fail again, so they are
+ * logged, dropped and counted in {@code employees.status.queue.dropped}.</li>
+ * <li>Beyond {@code employees.status-queue.capacity} pending employees, or once stopping, changes are applied
+ * synchronously. They are serialized with the flusher, so an older queued value can never land after them.</li>
+ * <li>On graceful shutdown the queue is stopped after the web server and drained before the DataSource closes.</li>
+ * <li>The queue is per instance: with several instances, send an employee's changes to one of them.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "employees.status-queue.enabled", havingValue = "true")
+public class EmployeeStatusQueue implements SmartLifecycle {
+
+	private static final int FLUSH_CHUNK_SIZE = 1_000;
+
+	private final EmployeeService employeeService;
+	private final int capacity;
+	private final ConcurrentMap<Long, Boolean> pending = new ConcurrentHashMap<>();
+	private final Object flushLock = new Object();
+	private final Counter dropped;
+	private volatile boolean running;
+
+	public EmployeeStatusQueue(EmployeeService employeeService, MeterRegistry meterRegistry,
+			@Value("${employees.status-queue.capacity:10000}") int capacity) {
+		this.employeeService = employeeService;
+		this.capacity = capacity;
+		Gauge.builder("employees.status.queue.pending", pending, Map::size).register(meterRegistry);
+		this.dropped = meterRegistry.counter("employees.status.queue.dropped");
+	}
+
+	/**
+	 * Queues the change and returns true, or applies it synchronously and returns false when the queue is full or
+	 * stopped.
+	 */
+	public boolean submit(Long id, EmployeeStatusRequestDto employeeStatusRequestDto) throws NotFoundException {
+		boolean enabled = employeeStatusRequestDto.isEnabled();
+		if (running && (pending.replace(id, enabled) != null || pending.size() < capacity
+				&& pending.putIfAbsent(id, enabled) == null)) {
+			return true;
+		}
+		synchronized (flushLock) {
+			employeeService.updateEmployeeStatus(id, employeeStatusRequestDto);
+		}
+		return false;
+	}
+
+	/**
+	 * Applies the pending changes and returns how many were applied.
+	 */
+	@Scheduled(fixedDelayString = "${employees.status-queue.flush-interval:PT1S}",
+			initialDelayString = "${employees.status-queue.flush-interval:PT1S}")
+	public int flush() {
+		synchronized (flushLock) {
+			List<Long> enabled = new ArrayList<>();
+			List<Long> disabled = new ArrayList<>();
+			for (Long id : pending.keySet()) {
+				Boolean status = pending.remove(id);
+				if (status != null) {
+					(status ? enabled : disabled).add(id);
+				}
+			}
+			return apply(enabled, true) + apply(disabled, false);
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	/**
+	 * Sends later changes down the synchronous path and flushes until the queue is empty or a flush applies nothing.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		int applied;
+		do {
+			applied = flush();
+		} while (applied > 0 && !pending.isEmpty());
+		if (!pending.isEmpty()) {
+			log.error("Employee status queue stopped with {} changes that could not be applied", pending.size());
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Below the web server's phase, so the queue stops once no more requests come in.
+	 */
+	@Override
+	public int getPhase() {
+		return 0;
+	}
+
+	private int apply(List<Long> ids, boolean enabled) {
+		int applied = 0;
+		for (int from = 0; from < ids.size(); from += FLUSH_CHUNK_SIZE) {
+			List<Long> chunk = ids.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, ids.size()));
+			try {
+				employeeService.updateEmployeesStatus(new EmployeeBulkStatusRequestDto(chunk, null, enabled));
+				applied += chunk.size();
+			} catch (DataAccessException | TransactionException e) {
+				chunk.forEach(id -> pending.putIfAbsent(id, enabled));
+				log.warn("Could not apply {} queued status changes, retrying on the next flush", chunk.size(), e);
+			} catch (BadRequestException | RuntimeException e) {
+				dropped.increment(chunk.size());
+				log.error("Dropped {} queued status changes that cannot be applied", chunk.size(), e);
+			}
+		}
+		return applied;
+	}
+}
@@ -0,0 +1,38 @@
+package com.github.silviacristinaa.employees.repositories;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeChecksum;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeIndexEntry;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeStatusTotals;
+
+/**
+ * Queries filtered by department and status, where a {@code null} filter matches every employee. Reads select
+ * straight into {@link EmployeeResponseDataDto}, so no entity is hydrated, snapshotted or dirty checked for them.
+ */
+public interface EmployeeFilterRepository {
+	
+	List<EmployeeResponseDataDto> findByDepartmentAndStatus(DepartmentEnum department, Boolean enabled, Pageable pageable);
+	
+	List<EmployeeResponseDataDto> findNextById(DepartmentEnum department, Boolean enabled, Long id, Pageable pageable);
+	
+	List<EmployeeResponseDataDto> findNextByName(DepartmentEnum department, Boolean enabled, String name, Long id, 
+			Pageable pageable);
+	
+	List<EmployeeResponseDataDto> findNextByCpf(DepartmentEnum department, Boolean enabled, String cpf, Long id, 
+			Pageable pageable);
+	
+	Stream<EmployeeResponseDataDto> streamByDepartmentAndStatus(DepartmentEnum department, Boolean enabled);
+	
+	EmployeeStatusTotals countByDepartmentAndStatus(DepartmentEnum department, Boolean enabled);
+	
+	List<EmployeeIndexEntry> findIndexEntriesByDepartmentAndStatus(DepartmentEnum department, Boolean enabled, 
+			Long afterId, int limit);
+	
+	EmployeeChecksum checksumByDepartmentAndStatus(DepartmentEnum department, Boolean enabled);
+}
@@ -0,0 +1,238 @@
+package com.github.silviacristinaa.employees.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeChecksum;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeIndexEntry;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeStatusTotals;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds the filter queries from the filters actually present, like the reactive service does with its
+ * {@code Criteria}. A JPQL {@code (:department is null or e.department = :department)} predicate is planned once
+ * for both cases, so the database cannot use the {@code (department, enabled, id)} index for it.
+ */
+@RequiredArgsConstructor
+public class EmployeeFilterRepositoryImpl implements EmployeeFilterRepository {
+	
+	private static final String ID = "id";
+	private static final String NAME = "name";
+	private static final String CPF = "cpf";
+	private static final String DEPARTMENT = "department";
+	private static final String ENABLED = "enabled";
+	private static final String VERSION = "version";
+	private static final int FETCH_SIZE = 1000;
+	
+	private final EntityManager entityManager;
+	
+	/**
+	 * Served from the query cache, since offset pages and their totals are reread with the same filters until
+	 * the next write to the employee table.
+	 */
+	@Override
+	public List<EmployeeResponseDataDto> findByDepartmentAndStatus(DepartmentEnum department, Boolean enabled, 
+			Pageable pageable) {
+		return cacheable(seekQuery(department, enabled, null, null, null, pageable)).getResultList();
+	}
+	
+	@Override
+	public List<EmployeeResponseDataDto> findNextById(DepartmentEnum department, Boolean enabled, Long id, Pageable pageable) {
+		return seek(department, enabled, ID, null, id, pageable);
+	}
+	
+	@Override
+	public List<EmployeeResponseDataDto> findNextByName(DepartmentEnum department, Boolean enabled, String name, Long id, 
+			Pageable pageable) {
+		return seek(department, enabled, NAME, name, id, pageable);
+	}
+	
+	@Override
+	public List<EmployeeResponseDataDto> findNextByCpf(DepartmentEnum department, Boolean enabled, String cpf, Long id, 
+			Pageable pageable) {
+		return seek(department, enabled, CPF, cpf, id, pageable);
+	}
+	
+	@Override
+	public Stream<EmployeeResponseDataDto> streamByDepartmentAndStatus(DepartmentEnum department, Boolean enabled) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<EmployeeResponseDataDto> query = builder.createQuery(EmployeeResponseDataDto.class);
+		Root<Employee> employee = query.from(Employee.class);
+		where(query.select(responseData(builder, employee)), filters(builder, employee, department, enabled))
+				.orderBy(builder.asc(employee.get(ID)));
+		
+		return entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+				.getResultStream();
+	}
+	
+	@Override
+	public EmployeeStatusTotals countByDepartmentAndStatus(DepartmentEnum department, Boolean enabled) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = builder.createTupleQuery();
+		Root<Employee> employee = query.from(Employee.class);
+		where(query.multiselect(employee.get(ENABLED), builder.count(employee)), 
+				filters(builder, employee, department, enabled)).groupBy(employee.get(ENABLED));
+		
+		long totalActive = 0;
+		long totalInactive = 0;
+		for (Tuple row : cacheable(entityManager.createQuery(query)).getResultList()) {
+			if (row.get(0, Boolean.class)) {
+				totalActive = row.get(1, Long.class);
+			} else {
+				totalInactive = row.get(1, Long.class);
+			}
+		}
+		return new Totals(totalActive, totalInactive);
+	}
+	
+	/**
+	 * Next keyset chunk of the matching employees, in id order after {@code afterId} (from the first one when null).
+	 */
+	@Override
+	public List<EmployeeIndexEntry> findIndexEntriesByDepartmentAndStatus(DepartmentEnum department, Boolean enabled, 
+			Long afterId, int limit) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = builder.createTupleQuery();
+		Root<Employee> employee = query.from(Employee.class);
+		List<Predicate> predicates = filters(builder, employee, department, enabled);
+		if (afterId != null) {
+			predicates.add(builder.greaterThan(employee.<Long>get(ID), afterId));
+		}
+		where(query.multiselect(employee.get(ID), employee.get(CPF), employee.get(DEPARTMENT), employee.get(ENABLED)), 
+				predicates).orderBy(builder.asc(employee.get(ID)));
+		
+		return entityManager.createQuery(query)
+				.setMaxResults(limit)
+				.getResultStream()
+				.map(row -> (EmployeeIndexEntry) new IndexEntry(row.get(0, Long.class), row.get(1, String.class), 
+						row.get(2, DepartmentEnum.class), row.get(3, Boolean.class)))
+				.toList();
+	}
+	
+	/**
+	 * Served from the query cache like the pages it versions, so a list request only scans the filter once per
+	 * write to the employee table.
+	 */
+	@Override
+	public EmployeeChecksum checksumByDepartmentAndStatus(DepartmentEnum department, Boolean enabled) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = builder.createTupleQuery();
+		Root<Employee> employee = query.from(Employee.class);
+		where(query.multiselect(builder.count(employee), builder.sumAsLong(employee.get(ID)), 
+				builder.sumAsLong(employee.get(VERSION))), filters(builder, employee, department, enabled));
+		
+		Tuple row = cacheable(entityManager.createQuery(query)).getSingleResult();
+		return new Checksum(row.get(0, Long.class), sum(row.get(1, Long.class)), sum(row.get(2, Long.class)));
+	}
+	
+	private List<EmployeeResponseDataDto> seek(DepartmentEnum department, Boolean enabled, String key, String value, 
+			Long id, Pageable pageable) {
+		return seekQuery(department, enabled, key, value, id, pageable).getResultList();
+	}
+	
+	private TypedQuery<EmployeeResponseDataDto> seekQuery(DepartmentEnum department, Boolean enabled, String key, 
+			String value, Long id, Pageable pageable) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<EmployeeResponseDataDto> query = builder.createQuery(EmployeeResponseDataDto.class);
+		Root<Employee> employee = query.from(Employee.class);
+		query.select(responseData(builder, employee));
+		
+		List<Predicate> predicates = filters(builder, employee, department, enabled);
+		if (ID.equals(key)) {
+			predicates.add(builder.greaterThan(employee.<Long>get(ID), id));
+		} else if (key != null) {
+			predicates.add(builder.or(
+					builder.greaterThan(employee.<String>get(key), value),
+					builder.and(builder.equal(employee.get(key), value), builder.greaterThan(employee.<Long>get(ID), id))));
+		}
+		where(query, predicates).orderBy(QueryUtils.toOrders(pageable.getSort(), employee, builder));
+		
+		TypedQuery<EmployeeResponseDataDto> typedQuery = entityManager.createQuery(query);
+		if (pageable.isPaged()) {
+			typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+		}
+		return typedQuery;
+	}
+	
+	/**
+	 * SUM over no rows is null. Not coalesced in the query, since a bound literal keeps the query cache from
+	 * recognising repeated executions.
+	 */
+	private static long sum(Long sum) {
+		return sum == null ? 0 : sum;
+	}
+	
+	private static <T> TypedQuery<T> cacheable(TypedQuery<T> query) {
+		return query.setHint(HibernateHints.HINT_CACHEABLE, true);
+	}
+	
+	private static CompoundSelection<EmployeeResponseDataDto> responseData(CriteriaBuilder builder, 
+			Root<Employee> employee) {
+		return builder.construct(EmployeeResponseDataDto.class, employee.get(ID), employee.get(NAME), 
+				employee.get(CPF), employee.get(DEPARTMENT), employee.get(ENABLED), employee.get(VERSION));
+	}
+	
+	/**
+	 * Hibernate fails to render a where clause built from an empty predicate array, so it is only set when a
+	 * filter is present.
+	 */
+	private static <T> CriteriaQuery<T> where(CriteriaQuery<T> query, List<Predicate> predicates) {
+		return predicates.isEmpty() ? query : query.where(predicates.toArray(Predicate[]::new));
+	}
+	
+	private static List<Predicate> filters(CriteriaBuilder builder, Root<Employee> employee, 
+			DepartmentEnum department, Boolean enabled) {
+		List<Predicate> predicates = new ArrayList<>(3);
+		if (department != null) {
+			predicates.add(builder.equal(employee.get(DEPARTMENT), department));
+		}
+		if (enabled != null) {
+			predicates.add(builder.equal(employee.get(ENABLED), enabled));
+		}
+		return predicates;
+	}
+	
+	@Getter
+	@AllArgsConstructor
+	private static final class Totals implements EmployeeStatusTotals {
+		private final Long totalActive;
+		private final Long totalInactive;
+	}
+	
+	@Getter
+	@AllArgsConstructor
+	private static final class Checksum implements EmployeeChecksum {
+		private final Long total;
+		private final Long idSum;
+		private final Long versionSum;
+	}
+	
+	@Getter
+	@AllArgsConstructor
+	private static final class IndexEntry implements EmployeeIndexEntry {
+		private final Long id;
+		private final String cpf;
+		private final DepartmentEnum department;
+		private final Boolean enabled;
+	}
+}
@@ -0,0 +1,91 @@
+package com.github.silviacristinaa.employees.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.silviacristinaa.employees.entities.Employee;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes that bypass the persistence context. Hibernate cannot batch inserts of IDENTITY-generated
+ * entities, so bulk inserts go through plain JDBC batches in the caller's transaction instead. Hibernate does not
+ * see these writes, so they invalidate its cached employee query results themselves.
+ */
+@Repository
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EmployeeJdbcRepository {
+	
+	private static final int BATCH_SIZE = 500;
+	private static final String INSERT_EMPLOYEE = 
+			"INSERT INTO employee (name, cpf, department, enabled) VALUES (?, ?, ?, ?)";
+	private static final String[] GENERATED_COLUMNS = { "id" };
+	private static final String[] QUERY_SPACES = { "employee" };
+	
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManager entityManager;
+	
+	/**
+	 * Inserts the employees in JDBC batches of {@value #BATCH_SIZE} rows and returns the generated ids in
+	 * insertion order.
+	 */
+	public List<Long> insertAll(List<Employee> employees) {
+		invalidateQueryCache();
+		return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+			List<Long> ids = new ArrayList<>(employees.size());
+			try (PreparedStatement statement = connection.prepareStatement(INSERT_EMPLOYEE, GENERATED_COLUMNS)) {
+				for (int i = 0; i < employees.size(); i++) {
+					Employee employee = employees.get(i);
+					statement.setString(1, employee.getName());
+					statement.setString(2, employee.getCpf());
+					statement.setString(3, employee.getDepartment().name());
+					statement.setBoolean(4, employee.isEnabled());
+					statement.addBatch();
+					
+					if ((i + 1) % BATCH_SIZE == 0 || i == employees.size() - 1) {
+						statement.executeBatch();
+						try (ResultSet keys = statement.getGeneratedKeys()) {
+							while (keys.next()) {
+								ids.add(keys.getLong(1));
+							}
+						}
+					}
+				}
+			}
+			return ids;
+		});
+	}
+	
+	/**
+	 * Same protocol as Hibernate's own bulk statements: the table is marked as being updated before the write,
+	 * so no result read meanwhile is cached as current, and as updated once the transaction completes.
+	 */
+	private void invalidateQueryCache() {
+		SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+		TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+		timestampsCache.preInvalidate(QUERY_SPACES, session);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					timestampsCache.invalidate(QUERY_SPACES, session);
+				}
+			});
+		} else {
+			timestampsCache.invalidate(QUERY_SPACES, session);
+		}
+	}
+}
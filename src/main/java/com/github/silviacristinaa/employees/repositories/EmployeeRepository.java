@@ -1,23 +1,94 @@
 package com.github.silviacristinaa.employees.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
 import com.github.silviacristinaa.employees.entities.Employee;
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeHeadcount;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeIndexEntry;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeName;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long>{
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeFilterRepository {
+	
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	Optional<Employee> findByCpf(String cpf);
 	
-	@Query("SELECT e FROM Employee e WHERE (:department is null or e.department = :department)"
-			+ "and (:enabled is null or e.enabled = :enabled)")
-	List<Employee> findByDepartmentAndStatus(
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	@Query("SELECT new com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto("
+			+ "e.id, e.name, e.cpf, e.department, e.enabled, e.version) FROM Employee e WHERE e.id = :id")
+	Optional<EmployeeResponseDataDto> findResponseDataById(@Param("id") Long id);
+	
+	@Query("SELECT new com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto("
+			+ "e.id, e.name, e.cpf, e.department, e.enabled, e.version) FROM Employee e WHERE e.id IN :ids")
+	List<EmployeeResponseDataDto> findResponseDataByIds(@Param("ids") Collection<Long> ids);
+	
+	@Query("SELECT e.version FROM Employee e WHERE e.id = :id")
+	Optional<Long> findVersionById(@Param("id") Long id);
+	
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT e.cpf FROM Employee e")
+	Stream<String> streamAllCpfs();
+	
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT e.id AS id, e.name AS name FROM Employee e ORDER BY e.id")
+	Stream<EmployeeName> streamAllNames();
+	
+	@Query("SELECT e.cpf FROM Employee e WHERE e.cpf IN :cpfs")
+	List<String> findExistingCpfs(@Param("cpfs") Collection<String> cpfs);
+	
+	@Query("SELECT e.department AS department, e.enabled AS enabled, COUNT(e) AS total FROM Employee e "
+			+ "GROUP BY e.department, e.enabled")
+	List<EmployeeHeadcount> countByDepartmentAndEnabled();
+	
+	@Query("SELECT e.department AS department, e.enabled AS enabled, COUNT(e) AS total FROM Employee e "
+			+ "WHERE e.id IN :ids GROUP BY e.department, e.enabled")
+	List<EmployeeHeadcount> countByDepartmentAndEnabledForIds(@Param("ids") Collection<Long> ids);
+	
+	@Query("SELECT e.id AS id, e.cpf AS cpf, e.department AS department, e.enabled AS enabled "
+			+ "FROM Employee e WHERE e.id IN :ids")
+	List<EmployeeIndexEntry> findIndexEntriesByIds(@Param("ids") Collection<Long> ids);
+	
+	@Modifying
+	@Query("DELETE FROM Employee e WHERE e.id IN :ids")
+	int deleteByIds(@Param("ids") Collection<Long> ids);
+	
+	/**
+	 * Updates the name only while CPF, department and status still hold the given values, so a PUT that does
+	 * not change them needs no prior read. The version only moves when the name actually changes.
+	 */
+	@Modifying
+	@Query("UPDATE Employee e SET e.version = CASE WHEN e.name = :name THEN e.version ELSE e.version + 1 END, "
+			+ "e.name = :name WHERE e.id = :id AND e.cpf = :cpf AND e.department = :department AND e.enabled = :enabled")
+	int updateNameByIdAndCpfAndDepartmentAndEnabled(
+			@Param("id") Long id,
+			@Param("name") String name,
+			@Param("cpf") String cpf,
 			@Param("department") DepartmentEnum department,
-			@Param("enabled") Boolean enabled);
-}
\ No newline at end of file
+			@Param("enabled") boolean enabled);
+	
+	@Modifying
+	@Query("UPDATE Employee e SET e.enabled = :enabled, e.version = e.version + 1 "
+			+ "WHERE e.id IN :ids AND e.enabled <> :enabled")
+	int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("enabled") boolean enabled);
+	
+	@Modifying
+	@Query("UPDATE Employee e SET e.enabled = :enabled, e.version = e.version + 1 "
+			+ "WHERE e.department = :department AND e.enabled <> :enabled")
+	int updateStatusByDepartment(@Param("department") DepartmentEnum department, @Param("enabled") boolean enabled);
+}
@@ -0,0 +1,19 @@
+package com.github.silviacristinaa.employees.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import com.github.silviacristinaa.employees.entities.Employee;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * R2DBC view of the employee table used by the reactive profile; only bootstrapped when the R2DBC
+ * auto-configuration is enabled (see application-reactive.yml).
+ */
+@Repository
+public interface ReactiveEmployeeRepository extends R2dbcRepository<Employee, Long> {
+	
+	Flux<Employee> findAllBy(Pageable pageable);
+}
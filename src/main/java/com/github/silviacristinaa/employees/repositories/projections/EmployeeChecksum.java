@@ -0,0 +1,10 @@
+package com.github.silviacristinaa.employees.repositories.projections;
+
+public interface EmployeeChecksum {
+
+	Long getTotal();
+	
+	Long getIdSum();
+	
+	Long getVersionSum();
+}
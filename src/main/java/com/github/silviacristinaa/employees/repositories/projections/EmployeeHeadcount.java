@@ -0,0 +1,12 @@
+package com.github.silviacristinaa.employees.repositories.projections;
+
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+
+public interface EmployeeHeadcount {
+
+	DepartmentEnum getDepartment();
+	
+	Boolean getEnabled();
+	
+	Long getTotal();
+}
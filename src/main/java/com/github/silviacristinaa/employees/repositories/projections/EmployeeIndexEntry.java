@@ -0,0 +1,14 @@
+package com.github.silviacristinaa.employees.repositories.projections;
+
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+
+public interface EmployeeIndexEntry {
+
+	Long getId();
+	
+	String getCpf();
+	
+	DepartmentEnum getDepartment();
+	
+	Boolean getEnabled();
+}
@@ -0,0 +1,8 @@
+package com.github.silviacristinaa.employees.repositories.projections;
+
+public interface EmployeeName {
+
+	Long getId();
+	
+	String getName();
+}
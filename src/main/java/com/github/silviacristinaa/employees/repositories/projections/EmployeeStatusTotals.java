@@ -0,0 +1,8 @@
+package com.github.silviacristinaa.employees.repositories.projections;
+
+public interface EmployeeStatusTotals {
+
+	Long getTotalActive();
+	
+	Long getTotalInactive();
+}
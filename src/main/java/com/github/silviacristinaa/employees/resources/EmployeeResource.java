@@ -1,58 +1,197 @@
 package com.github.silviacristinaa.employees.resources;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.employees.caches.EmployeeETags;
+import com.github.silviacristinaa.employees.caches.EmployeeResponseCache;
+import com.github.silviacristinaa.employees.caches.EmployeeResponseCache.EmployeeBody;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkDeleteRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkStatusRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBatchResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkDeleteResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkStatusResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeCursorResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeImportResponseDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeStatsResponseDto;
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.enums.ExportFormatEnum;
+import com.github.silviacristinaa.employees.enums.PayloadFormatEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
 import com.github.silviacristinaa.employees.exceptions.ConflictException;
 import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.exports.CsvEmployeeExportWriter;
+import com.github.silviacristinaa.employees.exports.EmployeeExportWriter;
+import com.github.silviacristinaa.employees.exports.NdjsonEmployeeExportWriter;
+import com.github.silviacristinaa.employees.imports.EmployeeCsvImporter;
+import com.github.silviacristinaa.employees.pagination.EmployeePageables;
+import com.github.silviacristinaa.employees.queues.EmployeeStatusQueue;
 import com.github.silviacristinaa.employees.services.EmployeeService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationStrategy;
+import org.springframework.web.accept.HeaderContentNegotiationStrategy;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping(value = "/employees")
 @RequiredArgsConstructor
 @Api(value = "Funcionários", tags = {"Serviço para Controle de Funcionários"})
 public class EmployeeResource {
 	
 	private static final String ID = "/{id}";
+	private static final String FILTERS = "/filters";
+	private static final String CURSOR = "cursor";
+	private static final ContentNegotiationStrategy ACCEPT_HEADER = new HeaderContentNegotiationStrategy();
 	
 	private final EmployeeService employeeService; 
+	private final EmployeeResponseCache employeeResponseCache;
+	private final ObjectMapper objectMapper;
+	private final EmployeeCsvImporter employeeCsvImporter;
+	private final ObjectProvider<EmployeeStatusQueue> employeeStatusQueue;
 	
 	@GetMapping
 	@ApiOperation(value="Retorna todos os funcionários", httpMethod = "GET")
 	@ResponseStatus(value = HttpStatus.OK)
-	public ResponseEntity<Page<EmployeeResponseDataDto>> findAll(Pageable pageable) {
-		return ResponseEntity.ok(employeeService.findAll(pageable));
+	@Transactional(readOnly = true)
+	public ResponseEntity<Page<EmployeeResponseDataDto>> findAll(Pageable pageable,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws BadRequestException {
+		Pageable sortedPageable = EmployeePageables.sortable(pageable);
+		String etag = listETag(null, null);
+		if (EmployeeETags.matches(ifNoneMatch, etag)) {
+			return notModified(etag);
+		}
+		return ok(etag, employeeService.findAll(sortedPageable));
 	}
 	
-	@GetMapping("/filters")
+	@GetMapping(params = CURSOR)
+	@ApiOperation(value="Retorna todos os funcionários paginados por cursor", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	@Transactional(readOnly = true)
+	public ResponseEntity<EmployeeCursorResponseDto> findAllByCursor(
+			@RequestParam(name = CURSOR) String cursor,
+			@RequestParam(name = "sort", defaultValue = "id") String sort,
+			@RequestParam(name = "size", defaultValue = "20") int size,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws BadRequestException {
+		String etag = listETag(null, null);
+		if (EmployeeETags.matches(ifNoneMatch, etag)) {
+			return notModified(etag);
+		}
+		return ok(etag, employeeService.findByCursor(null, null, sort, cursor, size));
+	}
+	
+	@GetMapping(FILTERS)
 	@ApiOperation(value= "Retorna os dados de funcionários de acordo com filtros opcionais", httpMethod = "GET")
 	@ResponseStatus(value = HttpStatus.OK)
+	@Transactional(readOnly = true)
 	public ResponseEntity<EmployeeResponseDto> findByFilters(
 			@RequestParam(name = "department", required = false) DepartmentEnum department,
 			@RequestParam(name = "enabled", required = false) Boolean enabled,
-			Pageable pageable) {
-		return ResponseEntity.ok(employeeService.findByFilters(department, enabled, pageable));
+			Pageable pageable,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws BadRequestException {
+		Pageable sortedPageable = EmployeePageables.sortable(pageable);
+		String etag = listETag(department, enabled);
+		if (EmployeeETags.matches(ifNoneMatch, etag)) {
+			return notModified(etag);
+		}
+		return ok(etag, employeeService.findByFilters(department, enabled, sortedPageable));
+	}
+	
+	@GetMapping(value = FILTERS, params = CURSOR)
+	@ApiOperation(value= "Retorna os funcionários de acordo com filtros opcionais paginados por cursor", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	@Transactional(readOnly = true)
+	public ResponseEntity<EmployeeCursorResponseDto> findByFiltersByCursor(
+			@RequestParam(name = "department", required = false) DepartmentEnum department,
+			@RequestParam(name = "enabled", required = false) Boolean enabled,
+			@RequestParam(name = CURSOR) String cursor,
+			@RequestParam(name = "sort", defaultValue = "id") String sort,
+			@RequestParam(name = "size", defaultValue = "20") int size,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws BadRequestException {
+		String etag = listETag(department, enabled);
+		if (EmployeeETags.matches(ifNoneMatch, etag)) {
+			return notModified(etag);
+		}
+		return ok(etag, employeeService.findByCursor(department, enabled, sort, cursor, size));
+	}
+
+	@GetMapping(value = "/search")
+	@ApiOperation(value="Busca funcionários por nome ou parte do nome", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<Page<EmployeeResponseDataDto>> search(@RequestParam(name = "q") String query, 
+			Pageable pageable) throws BadRequestException {
+		return ResponseEntity.ok(employeeService.search(query, pageable));
+	}
+
+	@GetMapping(value = "/stats")
+	@ApiOperation(value="Retorna o total de funcionários ativos e inativos por departamento", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<List<EmployeeStatsResponseDto>> findStats() {
+		return ResponseEntity.ok(employeeService.findStats());
+	}
+
+	@GetMapping(value = "/export")
+	@ApiOperation(value="Exporta todos os funcionários em NDJSON ou CSV", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public void export(
+			@RequestParam(name = "department", required = false) DepartmentEnum department,
+			@RequestParam(name = "enabled", required = false) Boolean enabled,
+			@RequestParam(name = "format", defaultValue = "NDJSON") ExportFormatEnum format,
+			HttpServletResponse response) throws IOException {
+		response.setContentType(format.getMediaType());
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, 
+				ContentDisposition.attachment().filename("employees." + format.getExtension()).build().toString());
+		employeeService.export(department, enabled, exportWriter(format, response.getOutputStream()));
 	}
 
 	@GetMapping(value = ID)
 	@ApiOperation(value="Retorna um funcionário único", httpMethod = "GET")
 	@ResponseStatus(value = HttpStatus.OK)
-	public ResponseEntity<EmployeeResponseDataDto> findById(@PathVariable Long id) throws NotFoundException {
-		return ResponseEntity.ok(employeeService.findOneEmployeeById(id));
+	public ResponseEntity<byte[]> findById(@PathVariable Long id,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws NotFoundException {
+		PayloadFormatEnum format = payloadFormat();
+		if (ifNoneMatch != null) {
+			EmployeeBody cached = employeeResponseCache.peek(id);
+			String etag = EmployeeETags.of(cached != null ? cached.getVersion() : employeeService.findVersion(id), format);
+			if (EmployeeETags.matches(ifNoneMatch, etag)) {
+				return notModified(etag);
+			}
+		}
+		EmployeeBody body = employeeResponseCache.get(id, format, employeeService::findOneEmployeeById);
+		return ResponseEntity.ok().contentType(format.getMediaType())
+				.eTag(EmployeeETags.of(body.getVersion(), format))
+				.varyBy(HttpHeaders.ACCEPT)
+				.body(body.getBody());
 	}
 
 	@PostMapping
@@ -64,15 +203,43 @@ public class EmployeeResource {
 		return ResponseEntity.created(uri).build();
 	}
 	
+	@PostMapping(value = "/batch")
+	@ApiOperation(value="Cria funcionários em lote", httpMethod = "POST")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<List<EmployeeBatchResponseDto>> createAll(
+			@RequestBody List<EmployeeRequestDto> employeeRequestDtos) throws BadRequestException, ConflictException {
+		return ResponseEntity.ok(employeeService.createAll(employeeRequestDtos));
+	}
+	
+	@PostMapping(value = "/import", consumes = "text/csv")
+	@ApiOperation(value="Importa funcionários a partir de um CSV", httpMethod = "POST")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<EmployeeImportResponseDto> importCsv(InputStream inputStream) throws IOException, BadRequestException {
+		return ResponseEntity.ok(employeeCsvImporter.importCsv(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+	}
+	
 	@PatchMapping(value = ID)
 	@ApiOperation(value="Atualiza o status de um funcionário", httpMethod = "PATCH")
 	@ResponseStatus(value = HttpStatus.NO_CONTENT)
 	public ResponseEntity<Void> updateEmployeeStatus(@PathVariable Long id, 
 			@RequestBody EmployeeStatusRequestDto employeeStatusRequestDto) throws NotFoundException {
-		employeeService.updateEmployeeStatus(id, employeeStatusRequestDto);
+		EmployeeStatusQueue queue = employeeStatusQueue.getIfAvailable();
+		if (queue == null) {
+			employeeService.updateEmployeeStatus(id, employeeStatusRequestDto);
+		} else if (queue.submit(id, employeeStatusRequestDto)) {
+			return ResponseEntity.accepted().build();
+		}
 		return ResponseEntity.noContent().build();
 	}
 
+	@PatchMapping(value = "/status")
+	@ApiOperation(value="Atualiza o status de funcionários por ids ou departamento", httpMethod = "PATCH")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<EmployeeBulkStatusResponseDto> updateEmployeesStatus(
+			@RequestBody @Valid EmployeeBulkStatusRequestDto employeeBulkStatusRequestDto) throws BadRequestException {
+		return ResponseEntity.ok(employeeService.updateEmployeesStatus(employeeBulkStatusRequestDto));
+	}
+
 	@PutMapping(value = ID)
 	@ApiOperation(value="Atualiza um funcionário", httpMethod = "PUT")
 	@ResponseStatus(value = HttpStatus.NO_CONTENT)
@@ -88,4 +255,53 @@ public class EmployeeResource {
 		employeeService.delete(id);
 		return ResponseEntity.noContent().build();
 	}
+	
+	@DeleteMapping
+	@ApiOperation(value="Deleta funcionários por ids ou filtros", httpMethod = "DELETE")
+	@ResponseStatus(value = HttpStatus.OK)
+	public ResponseEntity<EmployeeBulkDeleteResponseDto> deleteAll(
+			@RequestBody EmployeeBulkDeleteRequestDto employeeBulkDeleteRequestDto) throws BadRequestException {
+		return ResponseEntity.ok(employeeService.deleteAll(employeeBulkDeleteRequestDto));
+	}
+	
+	/**
+	 * Computed before the page is read and in the same read-only transaction, so with read replicas both come from
+	 * the same replica. A concurrent write can then only make the tag older than the body, which costs the client one
+	 * extra download but never hides a change.
+	 */
+	private String listETag(DepartmentEnum department, Boolean enabled) {
+		return EmployeeETags.weak(employeeService.findListVersion(department, enabled), payloadFormat());
+	}
+	
+	/**
+	 * The format the message converters will pick for this request, resolved up front so that tags and cached
+	 * bodies are per representation. Only the {@code Accept} header is negotiated, as in the MVC defaults.
+	 */
+	private PayloadFormatEnum payloadFormat() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+			return PayloadFormatEnum.JSON;
+		}
+		try {
+			return PayloadFormatEnum.negotiate(
+					ACCEPT_HEADER.resolveMediaTypes(new ServletWebRequest(servletAttributes.getRequest())));
+		} catch (HttpMediaTypeNotAcceptableException e) {
+			return PayloadFormatEnum.JSON;
+		}
+	}
+	
+	private static <T> ResponseEntity<T> ok(String etag, T body) {
+		return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(body);
+	}
+	
+	private static <T> ResponseEntity<T> notModified(String etag) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+	}
+	
+	private EmployeeExportWriter exportWriter(ExportFormatEnum format, OutputStream outputStream) throws IOException {
+		if (format == ExportFormatEnum.CSV) {
+			return new CsvEmployeeExportWriter(outputStream);
+		}
+		return new NdjsonEmployeeExportWriter(objectMapper, outputStream);
+	}
 }
@@ -0,0 +1,101 @@
+package com.github.silviacristinaa.employees.resources;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.services.ReactiveEmployeeService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same {@code /employees} contract as {@link EmployeeResource}, served by WebFlux and R2DBC when the
+ * {@code reactive} profile is active.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "/employees")
+@RequiredArgsConstructor
+@Api(value = "Funcionários", tags = {"Serviço para Controle de Funcionários"})
+public class ReactiveEmployeeResource {
+	
+	private static final String ID = "/{id}";
+	
+	private final ReactiveEmployeeService reactiveEmployeeService;
+	
+	@GetMapping
+	@ApiOperation(value="Retorna todos os funcionários", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public Mono<Page<EmployeeResponseDataDto>> findAll(Pageable pageable) {
+		return reactiveEmployeeService.findAll(pageable);
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@ApiOperation(value="Transmite todos os funcionários respeitando a demanda do cliente", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public Flux<EmployeeResponseDataDto> streamAll() {
+		return reactiveEmployeeService.streamAll();
+	}
+	
+	@GetMapping("/filters")
+	@ApiOperation(value= "Retorna os dados de funcionários de acordo com filtros opcionais", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public Mono<EmployeeResponseDto> findByFilters(
+			@RequestParam(name = "department", required = false) DepartmentEnum department,
+			@RequestParam(name = "enabled", required = false) Boolean enabled,
+			Pageable pageable) {
+		return reactiveEmployeeService.findByFilters(department, enabled, pageable);
+	}
+
+	@GetMapping(value = ID)
+	@ApiOperation(value="Retorna um funcionário único", httpMethod = "GET")
+	@ResponseStatus(value = HttpStatus.OK)
+	public Mono<EmployeeResponseDataDto> findById(@PathVariable Long id) {
+		return reactiveEmployeeService.findOneEmployeeById(id);
+	}
+
+	@PostMapping
+	@ApiOperation(value="Cria um funcionário", httpMethod = "POST")
+	@ResponseStatus(value = HttpStatus.CREATED)
+	public Mono<ResponseEntity<Void>> create(@RequestBody @Valid EmployeeRequestDto employeeRequestDto, 
+			ServerHttpRequest request) {
+		return reactiveEmployeeService.create(employeeRequestDto).map(employee -> ResponseEntity.created(
+				UriComponentsBuilder.fromHttpRequest(request).path(ID).buildAndExpand(employee.getId()).toUri()).build());
+	}
+	
+	@PatchMapping(value = ID)
+	@ApiOperation(value="Atualiza o status de um funcionário", httpMethod = "PATCH")
+	@ResponseStatus(value = HttpStatus.NO_CONTENT)
+	public Mono<Void> updateEmployeeStatus(@PathVariable Long id, 
+			@RequestBody EmployeeStatusRequestDto employeeStatusRequestDto) {
+		return reactiveEmployeeService.updateEmployeeStatus(id, employeeStatusRequestDto);
+	}
+
+	@PutMapping(value = ID)
+	@ApiOperation(value="Atualiza um funcionário", httpMethod = "PUT")
+	@ResponseStatus(value = HttpStatus.NO_CONTENT)
+	public Mono<Void> update(@PathVariable Long id, @RequestBody @Valid EmployeeRequestDto employeeRequestDto) {
+		return reactiveEmployeeService.update(id, employeeRequestDto);
+	}
+
+	@DeleteMapping(value = ID)
+	@ApiOperation(value="Deleta um funcionário", httpMethod = "DELETE")
+	@ResponseStatus(value = HttpStatus.NO_CONTENT)
+	public Mono<Void> delete(@PathVariable Long id) {
+		return reactiveEmployeeService.delete(id);
+	}
+}
@@ -1,30 +1,64 @@
 package com.github.silviacristinaa.employees.services;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkDeleteRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkStatusRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBatchResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkDeleteResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkStatusResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeCursorResponseDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeStatsResponseDto;
 import com.github.silviacristinaa.employees.entities.Employee;
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
 import com.github.silviacristinaa.employees.exceptions.ConflictException;
 import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.exports.EmployeeExportWriter;
 
 public interface EmployeeService {
 
-	Page<EmployeeResponseDataDto> findAll(Pageable pageable);
+	Page<EmployeeResponseDataDto> findAll(Pageable pageable) throws BadRequestException;
+	
+	EmployeeResponseDto findByFilters(DepartmentEnum department, Boolean enabled, Pageable pageable) throws BadRequestException;
+	
+	EmployeeCursorResponseDto findByCursor(DepartmentEnum department, Boolean enabled, String sort, String cursor, 
+			int size) throws BadRequestException;
+	
+	Page<EmployeeResponseDataDto> search(String query, Pageable pageable) throws BadRequestException;
+	
+	void export(DepartmentEnum department, Boolean enabled, EmployeeExportWriter writer) throws IOException;
 	
-	EmployeeResponseDto findByFilters(DepartmentEnum department, Boolean enabled, Pageable pageable);
+	List<EmployeeStatsResponseDto> findStats();
 	
 	EmployeeResponseDataDto findOneEmployeeById(Long id) throws NotFoundException;
 	
+	Long findVersion(Long id) throws NotFoundException;
+	
+	String findListVersion(DepartmentEnum department, Boolean enabled);
+	
 	Employee create(EmployeeRequestDto employeeRequestDto) throws ConflictException; 
 	
+	List<EmployeeBatchResponseDto> createAll(List<EmployeeRequestDto> employeeRequestDtos) 
+			throws BadRequestException, ConflictException;
+	
 	void updateEmployeeStatus(Long id, EmployeeStatusRequestDto employeeStatusRequestDto) throws NotFoundException; 
 	
+	EmployeeBulkStatusResponseDto updateEmployeesStatus(EmployeeBulkStatusRequestDto employeeBulkStatusRequestDto) 
+			throws BadRequestException;
+	
 	void update(Long id, EmployeeRequestDto employeeRequestDto) throws NotFoundException, ConflictException; 
 	
 	void delete(Long id) throws NotFoundException;
+	
+	EmployeeBulkDeleteResponseDto deleteAll(EmployeeBulkDeleteRequestDto employeeBulkDeleteRequestDto) 
+			throws BadRequestException;
 }
\ No newline at end of file
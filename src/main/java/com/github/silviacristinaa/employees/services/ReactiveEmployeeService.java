@@ -0,0 +1,33 @@
+package com.github.silviacristinaa.employees.services;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeService {
+
+	Mono<Page<EmployeeResponseDataDto>> findAll(Pageable pageable);
+	
+	Flux<EmployeeResponseDataDto> streamAll();
+	
+	Mono<EmployeeResponseDto> findByFilters(DepartmentEnum department, Boolean enabled, Pageable pageable);
+	
+	Mono<EmployeeResponseDataDto> findOneEmployeeById(Long id);
+	
+	Mono<Employee> create(EmployeeRequestDto employeeRequestDto);
+	
+	Mono<Void> updateEmployeeStatus(Long id, EmployeeStatusRequestDto employeeStatusRequestDto);
+	
+	Mono<Void> update(Long id, EmployeeRequestDto employeeRequestDto);
+	
+	Mono<Void> delete(Long id);
+}
@@ -1,115 +1,545 @@
 package com.github.silviacristinaa.employees.services.impl;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.silviacristinaa.employees.caches.EmployeeResponseCache;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkDeleteRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkStatusRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBatchResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkDeleteResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkStatusResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeCursorResponseDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
-import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto.EmployeeResponseDtoBuilder;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeStatsResponseDto;
 import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.BatchStatusEnum;
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
 import com.github.silviacristinaa.employees.exceptions.ConflictException;
 import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.exports.EmployeeExportWriter;
+import com.github.silviacristinaa.employees.indexes.CpfBloomFilter;
+import com.github.silviacristinaa.employees.indexes.EmployeeNameIndex;
+import com.github.silviacristinaa.employees.indexes.EmployeeNameIndex.Hits;
+import com.github.silviacristinaa.employees.mappers.EmployeeMapper;
+import com.github.silviacristinaa.employees.pagination.EmployeeCursor;
+import com.github.silviacristinaa.employees.pagination.EmployeePageables;
+import com.github.silviacristinaa.employees.repositories.EmployeeJdbcRepository;
 import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeChecksum;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeHeadcount;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeIndexEntry;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeStatusTotals;
 import com.github.silviacristinaa.employees.services.EmployeeService;
+import com.github.silviacristinaa.employees.stats.EmployeeHeadcounts;
 
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @Service
+@Profile("!reactive")
 public class EmployeeServiceImpl implements EmployeeService{
 	
 	private static final String CPF_ALREADY_REGISTERED_IN_THE_SYSTEM = "Cpf already registered in the system";
 	private static final String EMPLOYEE_NOT_FOUND = "Employee %s not found";
+	private static final String EMPLOYEE_MODIFIED_CONCURRENTLY = "Employee %s was modified concurrently";
+	private static final String CURSOR_SORT_NOT_ALLOWED = "Cursor sort by %s is not allowed";
+	
+	private static final String ID = "id";
+	private static final String NAME = "name";
+	private static final String CPF = "cpf";
+	private static final Set<String> CURSOR_FIELDS = Set.of(ID, NAME, CPF);
+	private static final int MAX_CURSOR_PAGE_SIZE = 2000;
+	private static final int MAX_BATCH_SIZE = 10_000;
+	private static final int CPF_LOOKUP_CHUNK_SIZE = 1_000;
+	private static final String INVALID_BATCH_SIZE = "Batch must contain between 1 and %s employees";
+	private static final String EMPLOYEE_REQUIRED = "employee must not be null";
+	private static final String BULK_STATUS_FILTER_REQUIRED = "Inform either ids or department";
+	private static final String BULK_DELETE_FILTER_REQUIRED = "Inform either ids or a department/enabled filter";
+	private static final int DELETE_CHUNK_SIZE = 1_000;
+	private static final int MAX_SEARCH_WINDOW = 10_000;
+	private static final String INVALID_SEARCH_PAGE = "Search pages must end within the first %s results";
 	
 	private final EmployeeRepository employeeRepository; 
-	private final ModelMapper modelMapper; 
+	private final EmployeeJdbcRepository employeeJdbcRepository;
+	private final Validator validator;
+	private final CpfBloomFilter cpfBloomFilter;
+	private final EmployeeNameIndex employeeNameIndex;
+	private final EmployeeResponseCache employeeResponseCache;
+	private final EmployeeMapper employeeMapper; 
+	private final EmployeeHeadcounts employeeHeadcounts;
 	
 	@Override
-	public Page<EmployeeResponseDataDto> findAll(Pageable pageable) {
-		 List<EmployeeResponseDataDto> response = 
-				 employeeRepository.findAll().stream().map(employee -> modelMapper.map(employee, EmployeeResponseDataDto.class))
-				 .collect(Collectors.toList());
-			
-		 final int start = (int)pageable.getOffset();
-		 final int end = Math.min((start + pageable.getPageSize()), response.size());
-			
-		 Page<EmployeeResponseDataDto> page = new PageImpl<>(response.subList(start, end), pageable, response.size());
-		 return page;
+	@Transactional(readOnly = true)
+	public Page<EmployeeResponseDataDto> findAll(Pageable pageable) throws BadRequestException {
+		Pageable sortedPageable = EmployeePageables.sortable(pageable);
+		return PageableExecutionUtils.getPage(employeeRepository.findByDepartmentAndStatus(null, null, sortedPageable), 
+				sortedPageable, employeeRepository::count);
 	}
 	
 	@Override
-	public EmployeeResponseDto findByFilters(DepartmentEnum department, Boolean enabled, Pageable pageable) {
+	@Transactional(readOnly = true)
+	public EmployeeResponseDto findByFilters(DepartmentEnum department, Boolean enabled, Pageable pageable) 
+			throws BadRequestException {
+		Pageable sortedPageable = EmployeePageables.sortable(pageable);
+		EmployeeStatusTotals totals = employeeRepository.countByDepartmentAndStatus(department, enabled);
+		long total = totals.getTotalActive() + totals.getTotalInactive();
 		
-		List<EmployeeResponseDataDto> response = employeeRepository.findByDepartmentAndStatus(department, enabled)
-				.stream().map(employee -> modelMapper.map(employee, EmployeeResponseDataDto.class))
-				.collect(Collectors.toList());
+		List<EmployeeResponseDataDto> response = List.of();
+		if (sortedPageable.isUnpaged() || sortedPageable.getOffset() < total) {
+			response = employeeRepository.findByDepartmentAndStatus(department, enabled, sortedPageable);
+		}
 		
-		EmployeeResponseDtoBuilder builder = EmployeeResponseDto.builder();
+		return EmployeeResponseDto.builder()
+				.totalActive(totals.getTotalActive())
+				.totalInactive(totals.getTotalInactive())
+				.employeeResponseDataDto(new PageImpl<>(response, sortedPageable, total))
+				.build();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public EmployeeCursorResponseDto findByCursor(DepartmentEnum department, Boolean enabled, String sort, 
+			String cursor, int size) throws BadRequestException {
+		EmployeeCursor position = cursor == null || cursor.isBlank() ? null : EmployeeCursor.decode(cursor);
+		String key = position == null ? sort : position.getKey();
+		if (!CURSOR_FIELDS.contains(key)) {
+			throw new BadRequestException(String.format(CURSOR_SORT_NOT_ALLOWED, key));
+		}
 		
-		Long totalActive = response.stream().filter(employee -> employee.isEnabled()).count();
-		builder.totalActive(totalActive);
+		int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+		Sort sortById = ID.equals(key) ? Sort.by(ID) : Sort.by(key, ID);
+		List<EmployeeResponseDataDto> employees = 
+				seek(department, enabled, key, position, PageRequest.of(0, pageSize + 1, sortById));
 		
-		Long totalInactive = response.stream().filter(employee -> !employee.isEnabled()).count();
-		builder.totalInactive(totalInactive);
+		String next = null;
+		if (employees.size() > pageSize) {
+			employees = employees.subList(0, pageSize);
+			EmployeeResponseDataDto last = employees.get(pageSize - 1);
+			next = new EmployeeCursor(key, keyValue(last, key), last.getId()).encode();
+		}
 		
-		final int start = (int)pageable.getOffset();
-		final int end = Math.min((start + pageable.getPageSize()), response.size());
+		return EmployeeCursorResponseDto.builder()
+				.content(employees)
+				.next(next)
+				.build();
+	}
+
+	/**
+	 * Ranks the matches in the name index and reads only the requested page, by id, from the database.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Page<EmployeeResponseDataDto> search(String query, Pageable pageable) throws BadRequestException {
+		if (pageable.isUnpaged() || pageable.getOffset() + pageable.getPageSize() > MAX_SEARCH_WINDOW) {
+			throw new BadRequestException(String.format(INVALID_SEARCH_PAGE, MAX_SEARCH_WINDOW));
+		}
 		
-		Page<EmployeeResponseDataDto> page = new PageImpl<>(response.subList(start, end), pageable, response.size());
-		return builder.employeeResponseDataDto(page).build();
+		Hits hits = employeeNameIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+		List<EmployeeResponseDataDto> response = List.of();
+		if (!hits.getIds().isEmpty()) {
+			Map<Long, EmployeeResponseDataDto> employees = employeeRepository.findResponseDataByIds(hits.getIds())
+					.stream().collect(Collectors.toMap(EmployeeResponseDataDto::getId, Function.identity()));
+			response = hits.getIds().stream().map(employees::get).filter(Objects::nonNull).collect(Collectors.toList());
+		}
+		return new PageImpl<>(response, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), 
+				hits.getTotal());
 	}
 
 	@Override
-	public EmployeeResponseDataDto findOneEmployeeById(Long id) throws NotFoundException {
-		Employee employee = findById(id); 
-		return modelMapper.map(employee, EmployeeResponseDataDto.class);
+	@Transactional(readOnly = true)
+	public void export(DepartmentEnum department, Boolean enabled, EmployeeExportWriter writer) throws IOException {
+		try (Stream<EmployeeResponseDataDto> employees = 
+				employeeRepository.streamByDepartmentAndStatus(department, enabled)) {
+			Iterator<EmployeeResponseDataDto> iterator = employees.iterator();
+			while (iterator.hasNext()) {
+				writer.write(iterator.next());
+			}
+		}
+		writer.finish();
 	}
 
+	@Override
+	public List<EmployeeStatsResponseDto> findStats() {
+		return employeeHeadcounts.snapshot();
+	}
+
+	/**
+	 * Not read-only, so it reads the primary even when replicas are configured: the result fills the response cache,
+	 * which keeps it until the next write to the employee, and a lagging replica could still hold the previous row.
+	 */
 	@Override
 	@Transactional
+	public EmployeeResponseDataDto findOneEmployeeById(Long id) throws NotFoundException {
+		return employeeRepository.findResponseDataById(id)
+				.orElseThrow(() -> new NotFoundException(String.format(EMPLOYEE_NOT_FOUND, id)));
+	}
+
+	@Override
+	public Long findVersion(Long id) throws NotFoundException {
+		return employeeRepository.findVersionById(id)
+				.orElseThrow(() -> new NotFoundException(String.format(EMPLOYEE_NOT_FOUND, id)));
+	}
+	
+	/**
+	 * Version of the employees matching the filters, from one cached aggregate query: an update raises the sum of
+	 * versions, and an insert or delete changes the count or, since ids only grow, the sum of ids. Employees entering
+	 * and leaving the filter at once can leave all three unchanged, so the version only backs a weak ETag.
+	 */
+	@Override
+	public String findListVersion(DepartmentEnum department, Boolean enabled) {
+		EmployeeChecksum checksum = employeeRepository.checksumByDepartmentAndStatus(department, enabled);
+		return Long.toHexString(checksum.getTotal()) + "-" + Long.toHexString(checksum.getIdSum()) + "-" 
+				+ Long.toHexString(checksum.getVersionSum());
+	}
+
+	@Override
+	@Transactional(rollbackFor = ConflictException.class)
 	public Employee create(EmployeeRequestDto employeeRequestDto) throws ConflictException {
-		findByCpf(employeeRequestDto);
-		return employeeRepository.save(modelMapper.map(employeeRequestDto, Employee.class));
+		if (cpfBloomFilter.mightContain(employeeRequestDto.getCpf())) {
+			findByCpf(employeeRequestDto);
+		}
+		Employee employee = saveAndFlush(employeeMapper.toEntity(employeeRequestDto));
+		cpfBloomFilter.add(employee.getCpf());
+		employeeHeadcounts.added(employee.getDepartment(), employee.isEnabled());
+		employeeNameIndex.put(employee.getId(), employee.getName());
+		return employee;
+	}
+	
+	@Override
+	@Transactional(rollbackFor = ConflictException.class)
+	public List<EmployeeBatchResponseDto> createAll(List<EmployeeRequestDto> employeeRequestDtos) 
+			throws BadRequestException, ConflictException {
+		if (employeeRequestDtos == null || employeeRequestDtos.isEmpty() || employeeRequestDtos.size() > MAX_BATCH_SIZE) {
+			throw new BadRequestException(String.format(INVALID_BATCH_SIZE, MAX_BATCH_SIZE));
+		}
+		
+		List<EmployeeBatchResponseDto> response = new ArrayList<>(employeeRequestDtos.size());
+		List<Integer> validIndexes = new ArrayList<>(employeeRequestDtos.size());
+		for (int i = 0; i < employeeRequestDtos.size(); i++) {
+			EmployeeRequestDto employeeRequestDto = employeeRequestDtos.get(i);
+			List<String> errors = validate(employeeRequestDto);
+			EmployeeBatchResponseDto item = EmployeeBatchResponseDto.builder().index(i)
+					.cpf(employeeRequestDto == null ? null : employeeRequestDto.getCpf()).build();
+			if (errors.isEmpty()) {
+				validIndexes.add(i);
+			} else {
+				item.setStatus(BatchStatusEnum.INVALID);
+				item.setErrors(errors);
+			}
+			response.add(item);
+		}
+		
+		Set<String> registeredCpfs = findExistingCpfs(validIndexes.stream()
+				.map(i -> employeeRequestDtos.get(i).getCpf()).collect(Collectors.toList()));
+		Set<String> batchCpfs = new HashSet<>();
+		List<Employee> employees = new ArrayList<>(validIndexes.size());
+		List<EmployeeBatchResponseDto> created = new ArrayList<>(validIndexes.size());
+		for (Integer i : validIndexes) {
+			EmployeeBatchResponseDto item = response.get(i);
+			if (registeredCpfs.contains(item.getCpf()) || !batchCpfs.add(item.getCpf())) {
+				item.setStatus(BatchStatusEnum.CONFLICT);
+				item.setErrors(List.of(CPF_ALREADY_REGISTERED_IN_THE_SYSTEM));
+			} else {
+				employees.add(employeeMapper.toEntity(employeeRequestDtos.get(i)));
+				created.add(item);
+			}
+		}
+		
+		if (!employees.isEmpty()) {
+			List<Long> ids;
+			try {
+				ids = employeeJdbcRepository.insertAll(employees);
+			} catch (DataIntegrityViolationException e) {
+				throw new ConflictException(CPF_ALREADY_REGISTERED_IN_THE_SYSTEM);
+			}
+			for (int i = 0; i < created.size(); i++) {
+				created.get(i).setId(ids.get(i));
+				created.get(i).setStatus(BatchStatusEnum.CREATED);
+				cpfBloomFilter.add(created.get(i).getCpf());
+				employeeHeadcounts.added(employees.get(i).getDepartment(), employees.get(i).isEnabled());
+				employeeNameIndex.put(ids.get(i), employees.get(i).getName());
+			}
+		}
+		return response;
 	}
 	
 	@Override
 	@Transactional
 	public void updateEmployeeStatus(Long id, EmployeeStatusRequestDto employeeStatusRequestDto) throws NotFoundException {
-		Employee employee = findById(id);
+		List<Long> ids = List.of(id);
+		List<EmployeeHeadcount> current = employeeRepository.countByDepartmentAndEnabledForIds(ids);
+		if (current.isEmpty()) {
+			throw new NotFoundException(String.format(EMPLOYEE_NOT_FOUND, id));
+		}
 		
-		employee.setEnabled(employeeStatusRequestDto.isEnabled());
-		employee.setId(id);
-		employeeRepository.save(employee); 
+		if (moveStatus(current, employeeStatusRequestDto.isEnabled()) > 0) {
+			employeeRepository.updateStatusByIds(ids, employeeStatusRequestDto.isEnabled());
+			employeeResponseCache.invalidate(id);
+		}
 	}
-
+	
 	@Override
 	@Transactional
-	public void update(Long id, EmployeeRequestDto employeeRequestDto) throws NotFoundException, ConflictException {
-		findById(id);
-		findByCpf(employeeRequestDto, id);
-		
-		Employee employee = modelMapper.map(employeeRequestDto, Employee.class);
-		employee.setId(id);
+	public EmployeeBulkStatusResponseDto updateEmployeesStatus(EmployeeBulkStatusRequestDto employeeBulkStatusRequestDto) 
+			throws BadRequestException {
+		List<Long> requestedIds = employeeBulkStatusRequestDto.getIds();
+		DepartmentEnum department = employeeBulkStatusRequestDto.getDepartment();
+		boolean byIds = requestedIds != null && !requestedIds.isEmpty();
+		if (byIds == (department != null)) {
+			throw new BadRequestException(BULK_STATUS_FILTER_REQUIRED);
+		}
+		if (byIds && requestedIds.size() > MAX_BATCH_SIZE) {
+			throw new BadRequestException(String.format(INVALID_BATCH_SIZE, MAX_BATCH_SIZE));
+		}
 		
-		employeeRepository.save(employee);
+		boolean enabled = employeeBulkStatusRequestDto.getEnabled();
+		int updated;
+		if (byIds) {
+			Set<Long> ids = new HashSet<>(requestedIds);
+			moveStatus(employeeRepository.countByDepartmentAndEnabledForIds(ids), enabled);
+			updated = employeeRepository.updateStatusByIds(ids, enabled);
+			ids.forEach(employeeResponseCache::invalidate);
+		} else {
+			updated = employeeRepository.updateStatusByDepartment(department, enabled);
+			employeeHeadcounts.moved(department, !enabled, department, enabled, updated);
+			employeeResponseCache.invalidateAll();
+		}
+		return EmployeeBulkStatusResponseDto.builder().updated(updated).build();
+	}
+
+	@Override
+	@Transactional(rollbackFor = ConflictException.class)
+	public void update(Long id, EmployeeRequestDto employeeRequestDto) throws NotFoundException, ConflictException {
+		int updated = employeeRepository.updateNameByIdAndCpfAndDepartmentAndEnabled(id, employeeRequestDto.getName(), 
+				employeeRequestDto.getCpf(), employeeRequestDto.getDepartment(), employeeRequestDto.isEnabled());
+		if (updated == 0) {
+			updateChangedColumns(id, employeeRequestDto);
+		}
+		employeeResponseCache.invalidate(id);
+		employeeNameIndex.put(id, employeeRequestDto.getName());
 	}
 
 	@Override
 	@Transactional
 	public void delete(Long id) throws NotFoundException {
-		findById(id);
-		employeeRepository.deleteById(id);
+		if (delete(employeeRepository.findIndexEntriesByIds(List.of(id))) == 0) {
+			throw new NotFoundException(String.format(EMPLOYEE_NOT_FOUND, id));
+		}
+	}
+	
+	@Override
+	@Transactional
+	public EmployeeBulkDeleteResponseDto deleteAll(EmployeeBulkDeleteRequestDto employeeBulkDeleteRequestDto) 
+			throws BadRequestException {
+		List<Long> requestedIds = employeeBulkDeleteRequestDto.getIds();
+		boolean byIds = requestedIds != null && !requestedIds.isEmpty();
+		boolean byFilter = employeeBulkDeleteRequestDto.getDepartment() != null 
+				|| employeeBulkDeleteRequestDto.getEnabled() != null;
+		if (byIds == byFilter) {
+			throw new BadRequestException(BULK_DELETE_FILTER_REQUIRED);
+		}
+		if (byIds && requestedIds.size() > MAX_BATCH_SIZE) {
+			throw new BadRequestException(String.format(INVALID_BATCH_SIZE, MAX_BATCH_SIZE));
+		}
+		
+		if (!byIds) {
+			int deleted = deleteByFilter(employeeBulkDeleteRequestDto.getDepartment(), 
+					employeeBulkDeleteRequestDto.getEnabled());
+			return EmployeeBulkDeleteResponseDto.builder().deleted(deleted).build();
+		}
+		
+		List<Long> ids = new ArrayList<>(new LinkedHashSet<>(requestedIds));
+		int deleted = 0;
+		for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+			deleted += delete(employeeRepository.findIndexEntriesByIds(
+					ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()))));
+		}
+		return EmployeeBulkDeleteResponseDto.builder().deleted(deleted).notFound(ids.size() - deleted).build();
+	}
+	
+	/**
+	 * Deletes the given employees, at most one chunk of them, and takes them out of the response cache, the CPF
+	 * Bloom filter, the name index and the headcounts.
+	 */
+	private int delete(List<EmployeeIndexEntry> employees) {
+		Map<DepartmentEnum, long[]> removed = new EnumMap<>(DepartmentEnum.class);
+		int deleted = deleteChunk(employees, removed);
+		employees.forEach(employee -> employeeResponseCache.invalidate(employee.getId()));
+		removeHeadcounts(removed);
+		return deleted;
+	}
+	
+	/**
+	 * Deletes the employees matching the filter one keyset chunk at a time, so only a chunk of them is held in
+	 * memory, and clears the whole response cache once instead of evicting every deleted employee.
+	 */
+	private int deleteByFilter(DepartmentEnum department, Boolean enabled) {
+		Map<DepartmentEnum, long[]> removed = new EnumMap<>(DepartmentEnum.class);
+		int deleted = 0;
+		Long lastId = null;
+		List<EmployeeIndexEntry> employees;
+		do {
+			employees = employeeRepository.findIndexEntriesByDepartmentAndStatus(department, enabled, lastId, 
+					DELETE_CHUNK_SIZE);
+			if (!employees.isEmpty()) {
+				deleted += deleteChunk(employees, removed);
+				lastId = employees.get(employees.size() - 1).getId();
+			}
+		} while (employees.size() == DELETE_CHUNK_SIZE);
+		
+		employeeResponseCache.invalidateAll();
+		removeHeadcounts(removed);
+		return deleted;
+	}
+	
+	/**
+	 * One {@code DELETE ... WHERE id IN (...)} for the chunk; the CPF Bloom filter and the name index are updated
+	 * and the removed headcounts added up.
+	 */
+	private int deleteChunk(List<EmployeeIndexEntry> employees, Map<DepartmentEnum, long[]> removed) {
+		if (employees.isEmpty()) {
+			return 0;
+		}
+		List<Long> ids = employees.stream().map(EmployeeIndexEntry::getId).collect(Collectors.toList());
+		int deleted = employeeRepository.deleteByIds(ids);
+		
+		for (EmployeeIndexEntry employee : employees) {
+			cpfBloomFilter.remove(employee.getCpf());
+			removed.computeIfAbsent(employee.getDepartment(), department -> new long[2])[employee.getEnabled() ? 1 : 0]++;
+		}
+		employeeNameIndex.removeAll(ids);
+		return deleted;
+	}
+	
+	private void removeHeadcounts(Map<DepartmentEnum, long[]> removed) {
+		removed.forEach((department, totals) -> {
+			employeeHeadcounts.removed(department, false, totals[0]);
+			employeeHeadcounts.removed(department, true, totals[1]);
+		});
+	}
+	
+	private List<EmployeeResponseDataDto> seek(DepartmentEnum department, Boolean enabled, String key, EmployeeCursor position,
+			Pageable pageable) {
+		if (position == null) {
+			return employeeRepository.findByDepartmentAndStatus(department, enabled, pageable);
+		}
+		if (NAME.equals(key)) {
+			return employeeRepository.findNextByName(department, enabled, position.getValue(), position.getId(), pageable);
+		}
+		if (CPF.equals(key)) {
+			return employeeRepository.findNextByCpf(department, enabled, position.getValue(), position.getId(), pageable);
+		}
+		return employeeRepository.findNextById(department, enabled, position.getId(), pageable);
+	}
+	
+	/**
+	 * Moves the headcounts of the employees that are not yet in the requested status and returns how many
+	 * of them the status UPDATE will change.
+	 */
+	private long moveStatus(List<EmployeeHeadcount> current, boolean enabled) {
+		long moving = 0;
+		for (EmployeeHeadcount headcount : current) {
+			if (headcount.getEnabled() != enabled) {
+				employeeHeadcounts.moved(headcount.getDepartment(), !enabled, headcount.getDepartment(), enabled, 
+						headcount.getTotal());
+				moving += headcount.getTotal();
+			}
+		}
+		return moving;
+	}
+	
+	private static String keyValue(EmployeeResponseDataDto employee, String key) {
+		if (NAME.equals(key)) {
+			return employee.getName();
+		}
+		if (CPF.equals(key)) {
+			return employee.getCpf();
+		}
+		return String.valueOf(employee.getId());
+	}
+	
+	private List<String> validate(EmployeeRequestDto employeeRequestDto) {
+		if (employeeRequestDto == null) {
+			return List.of(EMPLOYEE_REQUIRED);
+		}
+		return validator.validate(employeeRequestDto).stream()
+				.map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+				.collect(Collectors.toList());
+	}
+	
+	private Set<String> findExistingCpfs(List<String> cpfs) {
+		Set<String> registeredCpfs = new HashSet<>();
+		for (int start = 0; start < cpfs.size(); start += CPF_LOOKUP_CHUNK_SIZE) {
+			registeredCpfs.addAll(employeeRepository.findExistingCpfs(
+					cpfs.subList(start, Math.min(start + CPF_LOOKUP_CHUNK_SIZE, cpfs.size()))));
+		}
+		return registeredCpfs;
+	}
+	
+	private Employee saveAndFlush(Employee employee) throws ConflictException {
+		try {
+			return employeeRepository.saveAndFlush(employee);
+		} catch (DataIntegrityViolationException e) {
+			throw new ConflictException(CPF_ALREADY_REGISTERED_IN_THE_SYSTEM);
+		}
+	}
+	
+	/**
+	 * Slow path of {@link #update} for a missing employee or a changed CPF, department or status: the managed
+	 * entity is dirty checked on flush, so the UPDATE only sets the changed columns, and a CPF taken by another
+	 * employee is reported by the unique constraint.
+	 */
+	private void updateChangedColumns(Long id, EmployeeRequestDto employeeRequestDto) 
+			throws NotFoundException, ConflictException {
+		Employee employee = findById(id);
+		String previousCpf = employee.getCpf();
+		DepartmentEnum previousDepartment = employee.getDepartment();
+		boolean previousEnabled = employee.isEnabled();
+		
+		employeeMapper.updateEntity(employee, employeeRequestDto);
+		try {
+			employeeRepository.flush();
+		} catch (DataIntegrityViolationException e) {
+			throw new ConflictException(CPF_ALREADY_REGISTERED_IN_THE_SYSTEM);
+		} catch (ObjectOptimisticLockingFailureException e) {
+			throw new ConflictException(String.format(EMPLOYEE_MODIFIED_CONCURRENTLY, id));
+		}
+		
+		employeeHeadcounts.moved(previousDepartment, previousEnabled, employee.getDepartment(), employee.isEnabled());
+		if (!previousCpf.equals(employee.getCpf())) {
+			cpfBloomFilter.add(employee.getCpf());
+			cpfBloomFilter.remove(previousCpf);
+		}
 	}
 	
 	private Employee findById(Long id) throws NotFoundException {
@@ -123,11 +553,4 @@ public class EmployeeServiceImpl implements EmployeeService{
 			throw new ConflictException(CPF_ALREADY_REGISTERED_IN_THE_SYSTEM);
 		}
 	}
-	
-	private void findByCpf(EmployeeRequestDto employeeRequestDto, Long id) throws ConflictException {
-		Optional<Employee> employee = employeeRepository.findByCpf(employeeRequestDto.getCpf());
-		if(employee.isPresent() && !id.equals(employee.get().getId())) {
-			throw new ConflictException(CPF_ALREADY_REGISTERED_IN_THE_SYSTEM);
-		}
-	}
 }	
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.github.silviacristinaa.employees.services.impl;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.exceptions.ConflictException;
+import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.mappers.EmployeeMapper;
+import com.github.silviacristinaa.employees.pagination.EmployeePageables;
+import com.github.silviacristinaa.employees.repositories.ReactiveEmployeeRepository;
+import com.github.silviacristinaa.employees.services.ReactiveEmployeeService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeServiceImpl} for the reactive profile. CPF uniqueness is left to the
+ * unique constraint, so every write is a single statement and needs no reactive transaction manager.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+	
+	private static final String CPF_ALREADY_REGISTERED_IN_THE_SYSTEM = "Cpf already registered in the system";
+	private static final String EMPLOYEE_NOT_FOUND = "Employee %s not found";
+	private static final String ID = "id";
+	private static final String DEPARTMENT = "department";
+	private static final String ENABLED = "enabled";
+	
+	private final ReactiveEmployeeRepository reactiveEmployeeRepository;
+	private final R2dbcEntityTemplate r2dbcEntityTemplate;
+	private final EmployeeMapper employeeMapper;
+	
+	@Override
+	public Mono<Page<EmployeeResponseDataDto>> findAll(Pageable pageable) {
+		return Mono.fromCallable(() -> EmployeePageables.sortable(pageable))
+				.flatMap(sortedPageable -> reactiveEmployeeRepository.findAllBy(sortedPageable)
+						.map(employeeMapper::toResponseDataDto)
+						.collectList()
+						.zipWith(reactiveEmployeeRepository.count(), 
+								(content, total) -> new PageImpl<>(content, sortedPageable, total)));
+	}
+	
+	@Override
+	public Flux<EmployeeResponseDataDto> streamAll() {
+		return reactiveEmployeeRepository.findAll(Sort.by(ID)).map(employeeMapper::toResponseDataDto);
+	}
+	
+	@Override
+	public Mono<EmployeeResponseDto> findByFilters(DepartmentEnum department, Boolean enabled, Pageable pageable) {
+		return Mono.fromCallable(() -> EmployeePageables.sortable(pageable)).flatMap(sortedPageable -> {
+			Criteria criteria = department == null ? Criteria.empty() : Criteria.where(DEPARTMENT).is(department);
+			Mono<Long> totalActive = Boolean.FALSE.equals(enabled) ? Mono.just(0L) 
+					: r2dbcEntityTemplate.count(Query.query(criteria.and(ENABLED).isTrue()), Employee.class);
+			Mono<Long> totalInactive = Boolean.TRUE.equals(enabled) ? Mono.just(0L) 
+					: r2dbcEntityTemplate.count(Query.query(criteria.and(ENABLED).isFalse()), Employee.class);
+			Criteria filter = enabled == null ? criteria : criteria.and(ENABLED).is(enabled);
+			Mono<List<EmployeeResponseDataDto>> content = r2dbcEntityTemplate.select(Employee.class)
+					.matching(Query.query(filter).with(sortedPageable)).all()
+					.map(employeeMapper::toResponseDataDto)
+					.collectList();
+			
+			return Mono.zip(totalActive, totalInactive, content).map(result -> EmployeeResponseDto.builder()
+					.totalActive(result.getT1())
+					.totalInactive(result.getT2())
+					.employeeResponseDataDto(new PageImpl<>(result.getT3(), sortedPageable, result.getT1() + result.getT2()))
+					.build());
+		});
+	}
+	
+	@Override
+	public Mono<EmployeeResponseDataDto> findOneEmployeeById(Long id) {
+		return findById(id).map(employeeMapper::toResponseDataDto);
+	}
+	
+	@Override
+	public Mono<Employee> create(EmployeeRequestDto employeeRequestDto) {
+		return save(employeeMapper.toEntity(employeeRequestDto));
+	}
+	
+	@Override
+	public Mono<Void> updateEmployeeStatus(Long id, EmployeeStatusRequestDto employeeStatusRequestDto) {
+		return findById(id).flatMap(employee -> {
+			employee.setEnabled(employeeStatusRequestDto.isEnabled());
+			return reactiveEmployeeRepository.save(nextVersion(employee));
+		}).then();
+	}
+	
+	@Override
+	public Mono<Void> update(Long id, EmployeeRequestDto employeeRequestDto) {
+		return findById(id).flatMap(employee -> {
+			employeeMapper.updateEntity(employee, employeeRequestDto);
+			return save(nextVersion(employee));
+		}).then();
+	}
+	
+	@Override
+	public Mono<Void> delete(Long id) {
+		return findById(id).flatMap(reactiveEmployeeRepository::delete);
+	}
+	
+	private Mono<Employee> findById(Long id) {
+		return reactiveEmployeeRepository.findById(id)
+				.switchIfEmpty(Mono.error(() -> new NotFoundException(String.format(EMPLOYEE_NOT_FOUND, id))));
+	}
+	
+	/**
+	 * The version is a JPA {@code @Version}, which R2DBC does not manage, so reactive writes advance it themselves
+	 * to keep the servlet stack's ETags valid.
+	 */
+	private static Employee nextVersion(Employee employee) {
+		employee.setVersion(employee.getVersion() == null ? 1 : employee.getVersion() + 1);
+		return employee;
+	}
+	
+	private Mono<Employee> save(Employee employee) {
+		return reactiveEmployeeRepository.save(employee)
+				.onErrorMap(DataIntegrityViolationException.class, 
+						e -> new ConflictException(CPF_ALREADY_REGISTERED_IN_THE_SYSTEM));
+	}
+}
@@ -0,0 +1,125 @@
+package com.github.silviacristinaa.employees.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeStatsResponseDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeHeadcount;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Active and inactive headcount per department, kept in memory so reading it is O(1). Seeded from one grouped
+ * count at startup, moved by the service after each write commits and periodically reconciled against the
+ * database, which corrects drift from writes that bypass the service or race with a reconciliation.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class EmployeeHeadcounts {
+	
+	private static final DepartmentEnum[] DEPARTMENTS = DepartmentEnum.values();
+	
+	private final EmployeeRepository employeeRepository;
+	private final AtomicLongArray counters = new AtomicLongArray(DEPARTMENTS.length * 2);
+	private volatile boolean ready;
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		reconcile();
+	}
+	
+	@Scheduled(fixedDelayString = "${employees.stats.reconcile-interval:PT5M}", 
+			initialDelayString = "${employees.stats.reconcile-interval:PT5M}")
+	public synchronized void reconcile() {
+		long[] totals = new long[counters.length()];
+		for (EmployeeHeadcount headcount : employeeRepository.countByDepartmentAndEnabled()) {
+			totals[index(headcount.getDepartment(), headcount.getEnabled())] = headcount.getTotal();
+		}
+		
+		long drift = 0;
+		for (int i = 0; i < totals.length; i++) {
+			drift += Math.abs(counters.getAndSet(i, totals[i]) - totals[i]);
+		}
+		if (ready && drift != 0) {
+			log.warn("Employee headcounts drifted by {} and were reconciled", drift);
+		}
+		ready = true;
+	}
+	
+	public List<EmployeeStatsResponseDto> snapshot() {
+		if (!ready) {
+			reconcile();
+		}
+		List<EmployeeStatsResponseDto> stats = new ArrayList<>(DEPARTMENTS.length);
+		for (DepartmentEnum department : DEPARTMENTS) {
+			stats.add(EmployeeStatsResponseDto.builder()
+					.department(department)
+					.totalActive(counters.get(index(department, true)))
+					.totalInactive(counters.get(index(department, false)))
+					.build());
+		}
+		return stats;
+	}
+	
+	public void added(DepartmentEnum department, boolean enabled) {
+		afterCommit(() -> counters.incrementAndGet(index(department, enabled)));
+	}
+	
+	public void removed(DepartmentEnum department, boolean enabled) {
+		removed(department, enabled, 1);
+	}
+	
+	public void removed(DepartmentEnum department, boolean enabled, long count) {
+		if (count == 0) {
+			return;
+		}
+		afterCommit(() -> counters.addAndGet(index(department, enabled), -count));
+	}
+	
+	public void moved(DepartmentEnum fromDepartment, boolean fromEnabled, DepartmentEnum toDepartment, 
+			boolean toEnabled) {
+		moved(fromDepartment, fromEnabled, toDepartment, toEnabled, 1);
+	}
+	
+	public void moved(DepartmentEnum fromDepartment, boolean fromEnabled, DepartmentEnum toDepartment, 
+			boolean toEnabled, long count) {
+		if (count == 0 || (fromDepartment == toDepartment && fromEnabled == toEnabled)) {
+			return;
+		}
+		afterCommit(() -> {
+			counters.addAndGet(index(fromDepartment, fromEnabled), -count);
+			counters.addAndGet(index(toDepartment, toEnabled), count);
+		});
+	}
+	
+	private static void afterCommit(Runnable update) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			update.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				update.run();
+			}
+		});
+	}
+	
+	private static int index(DepartmentEnum department, boolean enabled) {
+		return department.ordinal() * 2 + (enabled ? 1 : 0);
+	}
+}
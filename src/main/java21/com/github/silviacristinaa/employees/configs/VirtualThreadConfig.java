@@ -0,0 +1,24 @@
+package com.github.silviacristinaa.employees.configs;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs every servlet request, and therefore the transactional service call it makes, on its own virtual thread instead
+ * of a thread from Tomcat's bounded worker pool. Only compiled with {@code -Pjava21}, on JDK 21, and only active with
+ * {@code employees.virtual-threads.enabled=true}. The Hikari pool still bounds how many requests hit the database at
+ * once, so size it for the database rather than for the number of clients.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employees.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+	
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+		return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+	}
+}
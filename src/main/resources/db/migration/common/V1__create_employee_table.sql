@@ -0,0 +1,7 @@
+CREATE TABLE employee (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	name VARCHAR(255) NOT NULL,
+	cpf VARCHAR(11) NOT NULL,
+	department VARCHAR(255) NOT NULL,
+	enabled BOOLEAN NOT NULL
+);
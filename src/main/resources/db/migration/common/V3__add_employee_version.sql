@@ -0,0 +1,2 @@
+-- Optimistic locking version, also the source of the HTTP ETags.
+ALTER TABLE employee ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,5 @@
+-- Filtering by department/status with keyset ordering on id, and the per-department headcount GROUP BY.
+CREATE INDEX employee_department_enabled_id_idx ON employee (department, enabled, id);
+
+-- Enforces CPF uniqueness; H2 has no INCLUDE columns, so lookups fetch the row by primary key.
+CREATE UNIQUE INDEX employee_cpf_idx ON employee (cpf);
@@ -0,0 +1,5 @@
+-- Filtering by department/status with keyset ordering on id, and the per-department headcount GROUP BY.
+CREATE INDEX employee_department_enabled_id_idx ON employee (department, enabled, id);
+
+-- Enforces CPF uniqueness and answers CPF lookups with an index-only scan.
+CREATE UNIQUE INDEX employee_cpf_idx ON employee (cpf) INCLUDE (id, name, department, enabled);
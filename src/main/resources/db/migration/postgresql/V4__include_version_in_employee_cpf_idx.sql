@@ -0,0 +1,20 @@
+-- Databases baselined from a Hibernate-generated schema also carry Hibernate's unique constraint on cpf, which
+-- duplicates employee_cpf_idx on every insert and CPF update.
+DO $$
+DECLARE
+	duplicate RECORD;
+BEGIN
+	FOR duplicate IN
+		SELECT c.conname FROM pg_constraint c
+		JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attname = 'cpf'
+		WHERE c.conrelid = 'employee'::regclass AND c.contype = 'u' AND c.conkey = ARRAY[a.attnum]
+	LOOP
+		EXECUTE format('ALTER TABLE employee DROP CONSTRAINT %I', duplicate.conname);
+	END LOOP;
+END $$;
+
+-- Enforces CPF uniqueness and answers the findByCpf entity select, which reads version since V3, with an
+-- index-only scan. Built before the old index is dropped, so uniqueness holds throughout.
+CREATE UNIQUE INDEX employee_cpf_version_idx ON employee (cpf) INCLUDE (id, name, department, enabled, version);
+DROP INDEX employee_cpf_idx;
+ALTER INDEX employee_cpf_version_idx RENAME TO employee_cpf_idx;
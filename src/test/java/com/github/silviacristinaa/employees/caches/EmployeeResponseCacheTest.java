@@ -0,0 +1,123 @@
+package com.github.silviacristinaa.employees.caches;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.github.silviacristinaa.employees.caches.EmployeeResponseCache.EmployeeBody;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.enums.PayloadFormatEnum;
+import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+
+public class EmployeeResponseCacheTest {
+	
+	private static final long ID = 1l;
+	
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicInteger loads = new AtomicInteger();
+	
+	private EmployeeResponseCache employeeResponseCache;
+	
+	@BeforeEach
+	void setUp() {
+		employeeResponseCache = new EmployeeResponseCache(objectMapper, 1024 * 1024);
+	}
+	
+	@Test
+	void whenGetTwiceReturnCachedJsonAndRecordHit() throws Exception {
+		byte[] first = employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load).getBody();
+		byte[] second = employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load).getBody();
+		
+		assertArrayEquals(first, second);
+		assertEquals(1, loads.get());
+		assertEquals(1, employeeResponseCache.stats().hitCount());
+		assertEquals(1, employeeResponseCache.stats().missCount());
+		assertEquals("Test", objectMapper.readValue(first, EmployeeResponseDataDto.class).getName());
+	}
+	
+	@Test
+	void whenGetKeepVersionOutOfJsonAndPeekWithoutRecordingStats() throws NotFoundException {
+		EmployeeBody json = employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load);
+		
+		assertEquals(3l, json.getVersion());
+		assertFalse(new String(json.getBody()).contains("version"));
+		assertSame(json, employeeResponseCache.peek(ID));
+		assertNull(employeeResponseCache.peek(ID + 1));
+		assertEquals(0, employeeResponseCache.stats().hitCount());
+	}
+	
+	@Test
+	void whenGetInCborCacheItApartFromJson() throws Exception {
+		byte[] json = employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load).getBody();
+		byte[] cbor = employeeResponseCache.get(ID, PayloadFormatEnum.CBOR, this::load).getBody();
+		employeeResponseCache.get(ID, PayloadFormatEnum.CBOR, this::load);
+		
+		assertEquals(2, loads.get());
+		assertEquals("Test", new CBORMapper().readValue(cbor, EmployeeResponseDataDto.class).getName());
+		assertTrue(cbor.length < json.length);
+	}
+	
+	@Test
+	void whenInvalidateReloadEveryFormat() throws NotFoundException {
+		employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load);
+		employeeResponseCache.get(ID, PayloadFormatEnum.SMILE, this::load);
+		employeeResponseCache.invalidate(ID);
+		
+		assertNull(employeeResponseCache.peek(ID));
+	}
+	
+	@Test
+	void whenInvalidateReloadEmployee() throws NotFoundException {
+		employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load);
+		employeeResponseCache.invalidate(ID);
+		employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load);
+		
+		assertEquals(2, loads.get());
+	}
+	
+	@Test
+	void whenInvalidateAllReloadEveryEmployee() throws NotFoundException {
+		employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load);
+		employeeResponseCache.get(ID + 1, PayloadFormatEnum.JSON, this::load);
+		employeeResponseCache.invalidateAll();
+		employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load);
+		employeeResponseCache.get(ID + 1, PayloadFormatEnum.JSON, this::load);
+		
+		assertEquals(4, loads.get());
+	}
+	
+	@Test
+	void whenInvalidatedWhileLoadingDoNotStoreLoadedJson() throws NotFoundException {
+		employeeResponseCache.get(ID, PayloadFormatEnum.JSON, id -> {
+			employeeResponseCache.invalidate(id);
+			return load(id);
+		});
+		employeeResponseCache.get(ID, PayloadFormatEnum.JSON, this::load);
+		
+		assertEquals(2, loads.get());
+	}
+	
+	@Test
+	void whenLoaderThrowsNotFoundExceptionPropagateIt() {
+		assertThrows(NotFoundException.class, () -> employeeResponseCache.get(ID, PayloadFormatEnum.JSON, id -> {
+			throw new NotFoundException(String.format("Employee %s not found", id));
+		}));
+	}
+	
+	private EmployeeResponseDataDto load(Long id) {
+		loads.incrementAndGet();
+		return new EmployeeResponseDataDto(id, "Test", "88888888888", DepartmentEnum.IT, true, 3l);
+	}
+}
@@ -0,0 +1,94 @@
+package com.github.silviacristinaa.employees.datasources;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(SpringExtension.class)
+public class ReplicaRoutingDataSourceTest {
+
+	@Mock
+	private DataSource primary;
+	@Mock
+	private DataSource replica;
+	@Mock
+	private DataSource otherReplica;
+	@Mock
+	private Connection primaryConnection;
+	@Mock
+	private Connection replicaConnection;
+	@Mock
+	private Connection otherReplicaConnection;
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void whenNotReadOnlyReturnPrimaryConnection() throws SQLException {
+		when(primary.getConnection()).thenReturn(primaryConnection);
+		ReplicaRoutingDataSource dataSource = routing(Duration.ofSeconds(30), replica);
+
+		assertSame(primaryConnection, dataSource.getConnection());
+		verify(replica, never()).getConnection();
+	}
+
+	@Test
+	void whenReadOnlyAlternateBetweenReplicas() throws SQLException {
+		when(replica.getConnection()).thenReturn(replicaConnection);
+		when(otherReplica.getConnection()).thenReturn(otherReplicaConnection);
+		ReplicaRoutingDataSource dataSource = routing(Duration.ofSeconds(30), replica, otherReplica);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertSame(replicaConnection, dataSource.getConnection());
+		assertSame(otherReplicaConnection, dataSource.getConnection());
+		assertSame(replicaConnection, dataSource.getConnection());
+		verify(primary, never()).getConnection();
+	}
+
+	@Test
+	void whenReplicaFailsSkipItUntilRetryInterval() throws SQLException {
+		when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+		when(otherReplica.getConnection()).thenReturn(otherReplicaConnection);
+		ReplicaRoutingDataSource dataSource = routing(Duration.ofSeconds(30), replica, otherReplica);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		for (int i = 0; i < 4; i++) {
+			assertSame(otherReplicaConnection, dataSource.getConnection());
+		}
+		verify(replica, times(1)).getConnection();
+	}
+
+	@Test
+	void whenAllReplicasFailFallBackToPrimaryAndRetryReplicas() throws SQLException {
+		when(primary.getConnection()).thenReturn(primaryConnection);
+		when(replica.getConnection()).thenThrow(new SQLException("Connection refused"))
+				.thenReturn(replicaConnection);
+		ReplicaRoutingDataSource dataSource = routing(Duration.ZERO, replica);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertSame(primaryConnection, dataSource.getConnection());
+		assertSame(replicaConnection, dataSource.getConnection());
+	}
+
+	private ReplicaRoutingDataSource routing(Duration retryInterval, DataSource... replicas) {
+		return new ReplicaRoutingDataSource(primary, List.of(replicas), retryInterval);
+	}
+}
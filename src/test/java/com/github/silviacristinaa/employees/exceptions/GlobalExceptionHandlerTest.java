@@ -15,6 +15,7 @@ public class GlobalExceptionHandlerTest {
 	
 	private static final String CONFLICT = "Conflict";
 	private static final String NOT_FOUND_MSG = "Not found";
+	private static final String BAD_REQUEST_MSG = "Bad request";
 	
 	@InjectMocks
 	private GlobalExceptionHandler globalExceptionHandler;
@@ -47,4 +48,18 @@ public class GlobalExceptionHandlerTest {
 		assertEquals(NOT_FOUND_MSG, response.getBody().getMessage());
 		assertEquals("Employee 1 not found", response.getBody().getErrors().get(0));
 	}
+	
+	@Test
+	void whenBadRequestExceptionReturnResponseEntity() {
+		ResponseEntity<ErrorMessage> response = globalExceptionHandler
+				.handleBadRequestException(new BadRequestException("Sort by salary is not allowed"));
+		
+		assertNotNull(response);
+		assertNotNull(response.getBody());
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		assertEquals(ResponseEntity.class, response.getClass());
+		assertEquals(ErrorMessage.class, response.getBody().getClass());
+		assertEquals(BAD_REQUEST_MSG, response.getBody().getMessage());
+		assertEquals("Sort by salary is not allowed", response.getBody().getErrors().get(0));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.github.silviacristinaa.employees.exports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+
+public class CsvEmployeeExportWriterTest {
+	
+	@Test
+	void whenWriteEmployeesReturnHeaderAndEscapedRows() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		CsvEmployeeExportWriter writer = new CsvEmployeeExportWriter(outputStream);
+		
+		writer.write(new EmployeeResponseDataDto(1l, "Test", "88888888888", DepartmentEnum.IT, true));
+		writer.write(new EmployeeResponseDataDto(2l, "Silva, \"Jr\"", "00000000000", DepartmentEnum.COMMERCIAL, false));
+		writer.finish();
+		
+		assertEquals("id,name,cpf,department,enabled\n"
+				+ "1,Test,88888888888,IT,true\n"
+				+ "2,\"Silva, \"\"Jr\"\"\",00000000000,COMMERCIAL,false\n", 
+				outputStream.toString(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,36 @@
+package com.github.silviacristinaa.employees.exports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+
+public class NdjsonEmployeeExportWriterTest {
+	
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	
+	@Test
+	void whenWriteEmployeesReturnOneDocumentPerLineFlushedOnFinish() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		NdjsonEmployeeExportWriter writer = new NdjsonEmployeeExportWriter(objectMapper, outputStream);
+		
+		writer.write(new EmployeeResponseDataDto(1l, "Test", "88888888888", DepartmentEnum.IT, true));
+		writer.write(new EmployeeResponseDataDto(2l, "Silva", "00000000000", DepartmentEnum.COMMERCIAL, false));
+		
+		assertEquals(0, outputStream.size());
+		
+		writer.finish();
+		
+		String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, lines.length);
+		assertEquals(1l, objectMapper.readValue(lines[0], EmployeeResponseDataDto.class).getId());
+		assertEquals("Silva", objectMapper.readValue(lines[1], EmployeeResponseDataDto.class).getName());
+	}
+}
@@ -0,0 +1,46 @@
+package com.github.silviacristinaa.employees.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvRecordReaderTest {
+	
+	@Test
+	void whenReadRecordsReturnFieldsAndStartingLine() throws IOException {
+		CsvRecordReader reader = new CsvRecordReader(new StringReader(
+				"name,cpf\r\n\"Silva, \"\"Jr\"\"\",1\n\"Multi\nline\",2\nlast,"), 100, 100);
+		
+		assertEquals(List.of("name", "cpf"), reader.next());
+		assertEquals(1, reader.getRecordLine());
+		assertEquals(List.of("Silva, \"Jr\"", "1"), reader.next());
+		assertEquals(2, reader.getRecordLine());
+		assertEquals(List.of("Multi\nline", "2"), reader.next());
+		assertEquals(3, reader.getRecordLine());
+		assertEquals(List.of("last", ""), reader.next());
+		assertEquals(5, reader.getRecordLine());
+		assertNull(reader.next());
+	}
+	
+	@Test
+	void whenRecordExceedLimitsCutItShortAndReportOversized() throws IOException {
+		CsvRecordReader reader = new CsvRecordReader(new StringReader(
+				"abcdef,1\nok,2\n" + ",".repeat(20) + "\nlast,3"), 4, 10);
+		
+		assertEquals(List.of("abcd", "1"), reader.next());
+		assertTrue(reader.isOversized());
+		assertEquals(List.of("ok", "2"), reader.next());
+		assertFalse(reader.isOversized());
+		assertEquals(10, reader.next().size());
+		assertTrue(reader.isOversized());
+		assertEquals(List.of("last", "3"), reader.next());
+		assertEquals(4, reader.getRecordLine());
+	}
+}
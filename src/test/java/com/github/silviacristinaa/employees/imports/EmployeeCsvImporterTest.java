@@ -0,0 +1,124 @@
+package com.github.silviacristinaa.employees.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBatchResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeImportResponseDto;
+import com.github.silviacristinaa.employees.enums.BatchStatusEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+import com.github.silviacristinaa.employees.exceptions.ConflictException;
+import com.github.silviacristinaa.employees.services.EmployeeService;
+
+@ExtendWith(SpringExtension.class)
+public class EmployeeCsvImporterTest {
+	
+	private static final String HEADER = "id,name,cpf,department,enabled\n";
+	private static final String CPF = "52998224725";
+	
+	@Mock
+	private EmployeeService employeeService;
+	
+	private EmployeeCsvImporter employeeCsvImporter;
+	
+	@BeforeEach
+	void setUp() {
+		employeeCsvImporter = new EmployeeCsvImporter(employeeService, 2, 1);
+	}
+	
+	@Test
+	void whenImportCsvCreateValidRowsChunkByChunk() throws IOException, BadRequestException, ConflictException {
+		when(employeeService.createAll(anyList()))
+				.thenReturn(List.of(created(), created()))
+				.thenReturn(List.of(EmployeeBatchResponseDto.builder().index(0).cpf("11144477735")
+						.status(BatchStatusEnum.CONFLICT).errors(List.of("Cpf already registered in the system")).build()));
+		
+		EmployeeImportResponseDto response = employeeCsvImporter.importCsv(new StringReader(HEADER 
+				+ "1,Test," + CPF + ",IT,true\n"
+				+ "\n"
+				+ "2,Test,12345678909,commercial,false\n"
+				+ "3,Test,11144477735,HUMAN_RESOURCES,\n"));
+		
+		assertEquals(3, response.getTotal());
+		assertEquals(2, response.getCreated());
+		assertEquals(1, response.getRejected());
+		assertEquals(5, response.getRejections().get(0).getLine());
+		assertEquals(BatchStatusEnum.CONFLICT, response.getRejections().get(0).getStatus());
+		verify(employeeService, times(2)).createAll(anyList());
+	}
+	
+	@Test
+	void whenImportInvalidRowsRejectThemWithoutInserting() throws IOException, BadRequestException, ConflictException {
+		EmployeeImportResponseDto response = employeeCsvImporter.importCsv(new StringReader(HEADER 
+				+ "1,Test,12345678900,SALES,maybe\n"
+				+ "2,,\n"));
+		
+		assertEquals(2, response.getTotal());
+		assertEquals(0, response.getCreated());
+		assertEquals(2, response.getRejected());
+		assertEquals(1, response.getRejections().size());
+		assertEquals(BatchStatusEnum.INVALID, response.getRejections().get(0).getStatus());
+		assertEquals(3, response.getRejections().get(0).getErrors().size());
+		verify(employeeService, never()).createAll(anyList());
+	}
+	
+	@Test
+	void whenImportUnclosedQuoteRejectOneOversizedRecord() throws IOException, BadRequestException, ConflictException {
+		EmployeeImportResponseDto response = employeeCsvImporter.importCsv(new StringReader(HEADER 
+				+ "1,\"Test," + CPF + ",IT,true\n" + "2,Test,12345678909,IT,true\n".repeat(1_000)));
+		
+		assertEquals(1, response.getTotal());
+		assertEquals(1, response.getRejected());
+		assertEquals(2, response.getRejections().get(0).getLine());
+		assertEquals(List.of("record must be at most 8192 characters, with fields of at most 1024 characters"), 
+				response.getRejections().get(0).getErrors());
+		verify(employeeService, never()).createAll(anyList());
+	}
+	
+	@Test
+	void whenChunkConflictsRejectWholeChunk() throws IOException, BadRequestException, ConflictException {
+		when(employeeService.createAll(anyList())).thenThrow(new ConflictException("Cpf already registered in the system"));
+		
+		EmployeeImportResponseDto response = employeeCsvImporter.importCsv(new StringReader(HEADER 
+				+ "1,Test," + CPF + ",IT,true\n"));
+		
+		assertEquals(1, response.getRejected());
+		assertEquals(BatchStatusEnum.CONFLICT, response.getRejections().get(0).getStatus());
+	}
+	
+	@Test
+	void whenImportWithoutRequiredColumnReturnBadRequestException() {
+		BadRequestException exception = assertThrows(BadRequestException.class, 
+				() -> employeeCsvImporter.importCsv(new StringReader("name,department\n")));
+		
+		assertEquals("Missing CSV column cpf", exception.getMessage());
+	}
+	
+	@Test
+	void whenCheckCpfDigitsReturnValidity() {
+		assertTrue(EmployeeCsvImporter.isValidCpf(CPF));
+		assertFalse(EmployeeCsvImporter.isValidCpf("52998224724"));
+		assertFalse(EmployeeCsvImporter.isValidCpf("5299822472a"));
+	}
+	
+	private EmployeeBatchResponseDto created() {
+		return EmployeeBatchResponseDto.builder().status(BatchStatusEnum.CREATED).build();
+	}
+}
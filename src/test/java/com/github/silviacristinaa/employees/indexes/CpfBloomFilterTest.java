@@ -0,0 +1,76 @@
+package com.github.silviacristinaa.employees.indexes;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+
+@ExtendWith(SpringExtension.class)
+public class CpfBloomFilterTest {
+	
+	private static final String CPF = "88888888888";
+	private static final String OTHER_CPF = "00000000000";
+	
+	@Mock
+	private EmployeeRepository employeeRepository;
+	
+	private CpfBloomFilter cpfBloomFilter;
+	
+	@BeforeEach
+	void setUp() {
+		cpfBloomFilter = new CpfBloomFilter(employeeRepository, 1_000, 0.01);
+	}
+	
+	@Test
+	void whenNotLoadedReturnMightContain() {
+		assertTrue(cpfBloomFilter.mightContain(CPF));
+	}
+	
+	@Test
+	void whenLoadedReturnOnlyRegisteredCpfs() {
+		when(employeeRepository.streamAllCpfs()).thenReturn(Stream.of(CPF));
+		
+		cpfBloomFilter.load();
+		
+		assertTrue(cpfBloomFilter.mightContain(CPF));
+		assertFalse(cpfBloomFilter.mightContain(OTHER_CPF));
+	}
+	
+	@Test
+	void whenAddAndRemoveCpfReturnNotContained() {
+		when(employeeRepository.streamAllCpfs()).thenReturn(Stream.empty());
+		cpfBloomFilter.load();
+		
+		cpfBloomFilter.add(OTHER_CPF);
+		assertTrue(cpfBloomFilter.mightContain(OTHER_CPF));
+		
+		cpfBloomFilter.remove(OTHER_CPF);
+		assertFalse(cpfBloomFilter.mightContain(OTHER_CPF));
+	}
+	
+	@Test
+	void whenManyCpfsAddedFalsePositivesStayRare() {
+		when(employeeRepository.streamAllCpfs()).thenReturn(Stream.empty());
+		cpfBloomFilter.load();
+		for (int i = 0; i < 1_000; i++) {
+			cpfBloomFilter.add(String.format("%011d", i));
+		}
+		
+		int falsePositives = 0;
+		for (int i = 1_000; i < 11_000; i++) {
+			if (cpfBloomFilter.mightContain(String.format("%011d", i))) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 300);
+	}
+}
@@ -0,0 +1,103 @@
+package com.github.silviacristinaa.employees.indexes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.github.silviacristinaa.employees.indexes.EmployeeNameIndex.Hits;
+import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeName;
+
+@ExtendWith(SpringExtension.class)
+public class EmployeeNameIndexTest {
+
+	@Mock
+	private EmployeeRepository employeeRepository;
+
+	private EmployeeNameIndex employeeNameIndex;
+
+	@BeforeEach
+	void setUp() {
+		employeeNameIndex = new EmployeeNameIndex(employeeRepository);
+	}
+
+	@Test
+	void whenTokenizeLowerCaseAndStripAccentsAndPunctuation() {
+		assertArrayEquals(new String[] { "jose", "d", "avila", "conceicao" },
+				EmployeeNameIndex.tokenize("  José D'Ávila-CONCEIÇÃO "));
+	}
+
+	@Test
+	void whenNotBuiltFindNothing() {
+		assertEquals(0, employeeNameIndex.search("test", 0, 20).getTotal());
+	}
+
+	@Test
+	void whenSearchMatchTokenPrefixesIgnoringCaseAndAccents() {
+		List<EmployeeName> names = List.of(name(1l, "José da Silva"), name(2l, "Maria Souza"), name(3l, "Joana Silveira"));
+		when(employeeRepository.streamAllNames()).thenReturn(names.stream());
+		employeeNameIndex.rebuild();
+
+		assertEquals(List.of(1l), employeeNameIndex.search("JOSE", 0, 20).getIds());
+		assertEquals(List.of(1l, 3l), employeeNameIndex.search("silv", 0, 20).getIds());
+		assertEquals(List.of(3l), employeeNameIndex.search("jo silvé", 0, 20).getIds());
+		assertEquals(List.of(), employeeNameIndex.search("maria silva", 0, 20).getIds());
+		assertEquals(List.of(), employeeNameIndex.search(" - ", 0, 20).getIds());
+	}
+
+	@Test
+	void whenSearchRankExactTokensFirstTokensAndShortNamesFirst() {
+		List<EmployeeName> names = List.of(name(1l, "Anabela Costa"), name(2l, "Mariana Ana"), name(3l, "Ana Costa"),
+				name(4l, "Ana Costa Lima"));
+		when(employeeRepository.streamAllNames()).thenReturn(names.stream());
+		employeeNameIndex.rebuild();
+
+		assertEquals(List.of(3l, 4l, 2l, 1l), employeeNameIndex.search("ana", 0, 20).getIds());
+	}
+
+	@Test
+	void whenSearchPageReturnWindowAndTotal() {
+		Stream<EmployeeName> names = Stream.iterate(1l, id -> id + 1).limit(50).map(id -> name(id, "Employee " + id));
+		when(employeeRepository.streamAllNames()).thenReturn(names);
+		employeeNameIndex.rebuild();
+
+		Hits hits = employeeNameIndex.search("employee", 20, 10);
+
+		assertEquals(50, hits.getTotal());
+		assertEquals(List.of(21l, 22l, 23l, 24l, 25l, 26l, 27l, 28l, 29l, 30l), hits.getIds());
+		assertEquals(List.of(), employeeNameIndex.search("employee", 60, 10).getIds());
+	}
+
+	@Test
+	void whenPutRenameAndRemoveUpdateIndex() {
+		when(employeeRepository.streamAllNames()).thenReturn(Stream.empty());
+		employeeNameIndex.rebuild();
+
+		employeeNameIndex.put(7l, "Carlos Pereira");
+		assertEquals(List.of(7l), employeeNameIndex.search("perei", 0, 20).getIds());
+
+		employeeNameIndex.put(7l, "Carlos Andrade");
+		assertEquals(List.of(), employeeNameIndex.search("perei", 0, 20).getIds());
+		assertEquals(List.of(7l), employeeNameIndex.search("andrade", 0, 20).getIds());
+
+		employeeNameIndex.remove(7l);
+		assertEquals(0, employeeNameIndex.search("carlos", 0, 20).getTotal());
+	}
+
+	private static EmployeeName name(Long id, String name) {
+		EmployeeName employeeName = Mockito.mock(EmployeeName.class);
+		when(employeeName.getId()).thenReturn(id);
+		when(employeeName.getName()).thenReturn(name);
+		return employeeName;
+	}
+}
@@ -0,0 +1,56 @@
+package com.github.silviacristinaa.employees.mappers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+
+public class EmployeeMapperTest {
+	
+	private static final long ID = 1l;
+	private static final String NAME = "Test";
+	private static final String CPF = "test";
+	
+	private final EmployeeMapper employeeMapper = new EmployeeMapper();
+	
+	@Test
+	void whenToEntityReturnEmployeeWithoutId() {
+		Employee response = employeeMapper.toEntity(new EmployeeRequestDto(NAME, CPF, DepartmentEnum.IT, true));
+		
+		assertNull(response.getId());
+		assertEquals(NAME, response.getName());
+		assertEquals(CPF, response.getCpf());
+		assertEquals(DepartmentEnum.IT, response.getDepartment());
+		assertEquals(true, response.isEnabled());
+	}
+	
+	@Test
+	void whenUpdateEntityCopyRequestKeepingId() {
+		Employee employee = new Employee(ID, NAME, CPF, DepartmentEnum.COMMERCIAL, false);
+		
+		employeeMapper.updateEntity(employee, new EmployeeRequestDto("Other", "other", DepartmentEnum.IT, true));
+		
+		assertEquals(ID, employee.getId());
+		assertEquals("Other", employee.getName());
+		assertEquals("other", employee.getCpf());
+		assertEquals(DepartmentEnum.IT, employee.getDepartment());
+		assertEquals(true, employee.isEnabled());
+	}
+	
+	@Test
+	void whenToResponseDataDtoReturnAllFields() {
+		EmployeeResponseDataDto response = employeeMapper.toResponseDataDto(
+				new Employee(ID, NAME, CPF, DepartmentEnum.COMMERCIAL, false));
+		
+		assertEquals(ID, response.getId());
+		assertEquals(NAME, response.getName());
+		assertEquals(CPF, response.getCpf());
+		assertEquals(DepartmentEnum.COMMERCIAL, response.getDepartment());
+		assertEquals(false, response.isEnabled());
+	}
+}
@@ -0,0 +1,78 @@
+package com.github.silviacristinaa.employees.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.services.EmployeeService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+public class EmployeeMetricsAspectTest {
+	
+	private static final long ID = 1l;
+	
+	@Mock
+	private EmployeeService employeeService;
+	
+	private MeterRegistry meterRegistry;
+	private EmployeeService proxy;
+	
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		AspectJProxyFactory factory = new AspectJProxyFactory(employeeService);
+		factory.addAspect(new EmployeeMetricsAspect(meterRegistry));
+		proxy = factory.getProxy();
+	}
+	
+	@Test
+	void whenServiceReturnsPageRecordTimerAndRows() throws BadRequestException {
+		when(employeeService.findAll(any())).thenReturn(new PageImpl<>(List.of(
+				new EmployeeResponseDataDto(ID, "Test", "88888888888", DepartmentEnum.IT, true))));
+		
+		proxy.findAll(Pageable.unpaged());
+		
+		assertEquals(1, meterRegistry.get("employees.service").tag("method", "findAll").tag("exception", "none")
+				.timer().count());
+		assertEquals(1.0, meterRegistry.get("employees.service.rows").tag("method", "findAll")
+				.summary().totalAmount());
+	}
+	
+	@Test
+	void whenServiceThrowsCountException() throws NotFoundException {
+		when(employeeService.findOneEmployeeById(ID)).thenThrow(new NotFoundException("Employee 1 not found"));
+		
+		assertThrows(NotFoundException.class, () -> proxy.findOneEmployeeById(ID));
+		
+		assertEquals(1.0, meterRegistry.get("employees.exceptions").tag("method", "findOneEmployeeById")
+				.tag("exception", "NotFoundException").counter().count());
+		assertEquals(1, meterRegistry.get("employees.service").tag("exception", "NotFoundException")
+				.timer().count());
+	}
+	
+	@Test
+	void whenResultIsNotARowResultReturnNullRows() {
+		assertNull(EmployeeMetricsAspect.rows(null));
+		assertNull(EmployeeMetricsAspect.rows(10L));
+	}
+}
@@ -0,0 +1,36 @@
+package com.github.silviacristinaa.employees.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+
+public class EmployeeCursorTest {
+	
+	@Test
+	void whenDecodeEncodedCursorReturnSamePosition() throws BadRequestException {
+		String token = new EmployeeCursor("name", "Maria\nJosé", 42l).encode();
+		
+		EmployeeCursor cursor = EmployeeCursor.decode(token);
+		
+		assertEquals("name", cursor.getKey());
+		assertEquals("Maria\nJosé", cursor.getValue());
+		assertEquals(42l, cursor.getId());
+	}
+	
+	@Test
+	void whenTryDecodeInvalidTokenReturnBadRequestException() {
+		BadRequestException exception = assertThrows(BadRequestException.class, () -> EmployeeCursor.decode("%%%"));
+		
+		assertEquals("Invalid cursor", exception.getMessage());
+	}
+	
+	@Test
+	void whenTryDecodeTokenWithoutIdReturnBadRequestException() {
+		String token = new EmployeeCursor("name", "Test", null).encode();
+		
+		assertThrows(BadRequestException.class, () -> EmployeeCursor.decode(token));
+	}
+}
@@ -0,0 +1,123 @@
+package com.github.silviacristinaa.employees.queues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkStatusResponseDto;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.services.EmployeeService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+public class EmployeeStatusQueueTest {
+
+	private static final EmployeeStatusRequestDto ENABLE = new EmployeeStatusRequestDto(true);
+	private static final EmployeeStatusRequestDto DISABLE = new EmployeeStatusRequestDto(false);
+
+	@Mock
+	private EmployeeService employeeService;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private EmployeeStatusQueue employeeStatusQueue;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		employeeStatusQueue = new EmployeeStatusQueue(employeeService, meterRegistry, 2);
+		employeeStatusQueue.start();
+	}
+
+	@Test
+	void whenSubmitSameIdFlushOnlyLastStatus() throws NotFoundException, BadRequestException {
+		assertTrue(employeeStatusQueue.submit(1l, DISABLE));
+		assertTrue(employeeStatusQueue.submit(1l, ENABLE));
+		assertTrue(employeeStatusQueue.submit(2l, DISABLE));
+		assertEquals(2, meterRegistry.get("employees.status.queue.pending").gauge().value());
+
+		assertEquals(2, employeeStatusQueue.flush());
+
+		ArgumentCaptor<EmployeeBulkStatusRequestDto> captor = ArgumentCaptor.forClass(EmployeeBulkStatusRequestDto.class);
+		verify(employeeService, times(2)).updateEmployeesStatus(captor.capture());
+		assertEquals(List.of(1l), captor.getAllValues().get(0).getIds());
+		assertTrue(captor.getAllValues().get(0).getEnabled());
+		assertEquals(List.of(2l), captor.getAllValues().get(1).getIds());
+		assertFalse(captor.getAllValues().get(1).getEnabled());
+		assertEquals(0, employeeStatusQueue.flush());
+	}
+
+	@Test
+	void whenQueueFullUpdateSynchronously() throws NotFoundException {
+		employeeStatusQueue.submit(1l, DISABLE);
+		employeeStatusQueue.submit(2l, DISABLE);
+
+		assertTrue(employeeStatusQueue.submit(2l, ENABLE));
+		assertFalse(employeeStatusQueue.submit(3l, DISABLE));
+
+		verify(employeeService, times(1)).updateEmployeeStatus(3l, DISABLE);
+	}
+
+	@Test
+	void whenFlushFailRequeueWithoutOverridingNewerStatus() throws NotFoundException, BadRequestException {
+		employeeStatusQueue.submit(1l, DISABLE);
+		when(employeeService.updateEmployeesStatus(any())).thenAnswer(invocation -> {
+			employeeStatusQueue.submit(1l, ENABLE);
+			throw new DataAccessResourceFailureException("database unavailable");
+		});
+
+		assertEquals(0, employeeStatusQueue.flush());
+
+		doReturn(EmployeeBulkStatusResponseDto.builder().build()).when(employeeService).updateEmployeesStatus(any());
+		assertEquals(1, employeeStatusQueue.flush());
+
+		ArgumentCaptor<EmployeeBulkStatusRequestDto> captor = ArgumentCaptor.forClass(EmployeeBulkStatusRequestDto.class);
+		verify(employeeService, times(2)).updateEmployeesStatus(captor.capture());
+		assertTrue(captor.getValue().getEnabled());
+	}
+
+	@Test
+	void whenFlushFailPermanentlyDropChangesAndCountThem() throws NotFoundException, BadRequestException {
+		employeeStatusQueue.submit(1l, DISABLE);
+		employeeStatusQueue.submit(2l, DISABLE);
+		when(employeeService.updateEmployeesStatus(any())).thenThrow(new IllegalStateException("invalid status"));
+
+		assertEquals(0, employeeStatusQueue.flush());
+
+		assertEquals(2, meterRegistry.get("employees.status.queue.dropped").counter().count());
+		assertEquals(0, meterRegistry.get("employees.status.queue.pending").gauge().value());
+		assertEquals(0, employeeStatusQueue.flush());
+		verify(employeeService, times(1)).updateEmployeesStatus(any());
+	}
+
+	@Test
+	void whenStopDrainQueueAndUpdateSynchronously() throws NotFoundException, BadRequestException {
+		employeeStatusQueue.submit(1l, DISABLE);
+
+		employeeStatusQueue.stop();
+
+		verify(employeeService, times(1)).updateEmployeesStatus(any());
+		assertFalse(employeeStatusQueue.isRunning());
+		assertFalse(employeeStatusQueue.submit(1l, ENABLE));
+		verify(employeeService, times(1)).updateEmployeeStatus(1l, ENABLE);
+	}
+}
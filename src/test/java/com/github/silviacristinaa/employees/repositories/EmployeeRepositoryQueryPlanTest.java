@@ -0,0 +1,117 @@
+package com.github.silviacristinaa.employees.repositories;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.github.silviacristinaa.employees.configs.JpaRepositoryConfig;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.github.silviacristinaa.employees.repositories.EmployeeRepositoryQueryPlanTest$RecordingStatementInspector")
+@Import(JpaRepositoryConfig.class)
+public class EmployeeRepositoryQueryPlanTest {
+	
+	private static final String DEPARTMENT_ENABLED_ID_INDEX = "EMPLOYEE_DEPARTMENT_ENABLED_ID_IDX";
+	private static final String CPF_INDEX = "EMPLOYEE_CPF_IDX";
+	private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+	
+	@Autowired
+	private EmployeeRepository employeeRepository;
+	
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	
+	@Autowired
+	private TestEntityManager testEntityManager;
+	
+	@BeforeEach
+	void setUp() {
+		STATEMENTS.clear();
+	}
+	
+	@Test
+	void whenFindByDepartmentAndStatusUseDepartmentEnabledIdIndex() {
+		employeeRepository.findByDepartmentAndStatus(DepartmentEnum.IT, true, PageRequest.of(0, 20, Sort.by("id")));
+		
+		assertThat(plan(), containsString(DEPARTMENT_ENABLED_ID_INDEX));
+	}
+	
+	@Test
+	void whenFindNextByIdUseDepartmentEnabledIdIndex() {
+		employeeRepository.findNextById(DepartmentEnum.IT, true, 100L, PageRequest.of(0, 20, Sort.by("id")));
+		
+		assertThat(plan(), containsString(DEPARTMENT_ENABLED_ID_INDEX));
+	}
+	
+	@Test
+	void whenCountByDepartmentAndStatusUseDepartmentEnabledIdIndex() {
+		employeeRepository.countByDepartmentAndStatus(DepartmentEnum.IT, null);
+		
+		assertThat(plan(), containsString(DEPARTMENT_ENABLED_ID_INDEX));
+	}
+	
+	@Test
+	void whenStreamByDepartmentAndStatusUseDepartmentEnabledIdIndex() {
+		try (Stream<EmployeeResponseDataDto> employees = employeeRepository.streamByDepartmentAndStatus(DepartmentEnum.IT, false)) {
+			employees.findFirst();
+		}
+		
+		assertThat(plan(), containsString(DEPARTMENT_ENABLED_ID_INDEX));
+	}
+	
+	@Test
+	void whenFindByCpfUseCpfIndex() {
+		employeeRepository.findByCpf("12345678901");
+		
+		assertThat(plan(), containsString(CPF_INDEX));
+	}
+	
+	@Test
+	void whenReadProjectionsLeavePersistenceContextEmpty() {
+		Employee employee = testEntityManager.persistFlushFind(
+				new Employee(null, "Projection", "12345678909", DepartmentEnum.IT, true));
+		testEntityManager.clear();
+		
+		List<EmployeeResponseDataDto> page = 
+				employeeRepository.findByDepartmentAndStatus(DepartmentEnum.IT, true, PageRequest.of(0, 20, Sort.by("id")));
+		EmployeeResponseDataDto one = employeeRepository.findResponseDataById(employee.getId()).orElseThrow();
+		
+		assertEquals(employee.getId(), page.get(0).getId());
+		assertEquals("Projection", one.getName());
+		assertEquals(employee.getVersion(), one.getVersion());
+		assertEquals(0, testEntityManager.getEntityManager().unwrap(SessionImplementor.class)
+				.getPersistenceContextInternal().getNumberOfManagedEntities());
+	}
+	
+	private String plan() {
+		return jdbcTemplate.queryForObject("EXPLAIN " + STATEMENTS.get(STATEMENTS.size() - 1), String.class);
+	}
+	
+	public static class RecordingStatementInspector implements StatementInspector {
+		
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
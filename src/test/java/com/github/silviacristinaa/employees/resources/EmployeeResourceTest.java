@@ -2,11 +2,15 @@ package com.github.silviacristinaa.employees.resources;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -17,34 +21,60 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.employees.caches.EmployeeResponseCache;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkDeleteRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkStatusRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBatchResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkDeleteResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkStatusResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeCursorResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeImportResponseDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeStatsResponseDto;
 import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.BatchStatusEnum;
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.enums.ExportFormatEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
 import com.github.silviacristinaa.employees.exceptions.ConflictException;
 import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.exports.CsvEmployeeExportWriter;
+import com.github.silviacristinaa.employees.imports.EmployeeCsvImporter;
+import com.github.silviacristinaa.employees.queues.EmployeeStatusQueue;
 import com.github.silviacristinaa.employees.services.EmployeeService;
 
 @ExtendWith(SpringExtension.class)
 public class EmployeeResourceTest {
 	
 	private static final long ID = 1l;
+	private static final long VERSION = 3l;
 	private static final String NAME = "Test";
 	private static final String CPF = "test";
 	private static final int INDEX = 0;
 	
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+	
 	private EmployeeRequestDto employeeRequestDto;
 	private EmployeeStatusRequestDto employeeStatusRequestDto;
 	private EmployeeResponseDataDto employeeResponseDataDto;
@@ -58,13 +88,26 @@ public class EmployeeResourceTest {
 	@Mock
 	private EmployeeService employeeService;
 	
+	@Mock
+	private EmployeeCsvImporter employeeCsvImporter;
+	
+	@Mock
+	private ObjectProvider<EmployeeStatusQueue> employeeStatusQueueProvider;
+	
+	@Mock
+	private EmployeeStatusQueue employeeStatusQueue;
+
+	
+	@Spy
+	private EmployeeResponseCache employeeResponseCache = new EmployeeResponseCache(objectMapper, 1024 * 1024);
+	
 	@BeforeEach
 	void setUp() {
 		employeeRequestDto = new EmployeeRequestDto(NAME, CPF, DepartmentEnum.IT, true);
 		
 		employeeStatusRequestDto = new EmployeeStatusRequestDto(false);
 		
-		employeeResponseDataDto = new EmployeeResponseDataDto(ID, NAME, CPF, DepartmentEnum.IT, true);
+		employeeResponseDataDto = new EmployeeResponseDataDto(ID, NAME, CPF, DepartmentEnum.IT, true, VERSION);
 		
 		List<EmployeeResponseDataDto> responseDataDto = new ArrayList<>(); 
 		responseDataDto.add(employeeResponseDataDto);
@@ -77,11 +120,11 @@ public class EmployeeResourceTest {
 	}
 	
 	@Test
-	void whenFindAllReturnEmployeeResponseDataDtoPage() {
+	void whenFindAllReturnEmployeeResponseDataDtoPage() throws BadRequestException {
 		when(employeeService.findAll(Mockito.any(Pageable.class)))
 				.thenReturn(new PageImpl<>(Arrays.asList(employeeResponseDataDto)));
 
-		ResponseEntity<Page<EmployeeResponseDataDto>> response = employeeResource.findAll(Pageable.unpaged());
+		ResponseEntity<Page<EmployeeResponseDataDto>> response = employeeResource.findAll(Pageable.unpaged(), null);
 
 		assertNotNull(response);
 		assertNotNull(response.getBody());
@@ -97,11 +140,11 @@ public class EmployeeResourceTest {
 	}
 	
 	@Test
-	void whenFindByFiltersReturnOneEmployeeResponseDto() {
+	void whenFindByFiltersReturnOneEmployeeResponseDto() throws BadRequestException {
 		when(employeeService.findByFilters(Mockito.any(), Mockito.any(), Mockito.any()))
 				.thenReturn(employeeResponseDto);
 
-		ResponseEntity<EmployeeResponseDto> response = employeeResource.findByFilters(null, null, Pageable.unpaged());
+		ResponseEntity<EmployeeResponseDto> response = employeeResource.findByFilters(null, null, Pageable.unpaged(), null);
 
 		assertNotNull(response);
 		assertNotNull(response.getBody());
@@ -120,22 +163,129 @@ public class EmployeeResourceTest {
 	}
 	
 	@Test
-	void whenFindByIdReturnOneEmployeeResponseDataDto() throws NotFoundException {
+	void whenFindAllByCursorReturnEmployeeCursorResponseDto() throws BadRequestException {
+		when(employeeService.findByCursor(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt()))
+				.thenReturn(new EmployeeCursorResponseDto(List.of(employeeResponseDataDto), "next"));
+
+		ResponseEntity<EmployeeCursorResponseDto> response = employeeResource.findAllByCursor("", "id", 1, null);
+
+		assertNotNull(response);
+		assertNotNull(response.getBody());
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("next", response.getBody().getNext());
+		assertEquals(ID, response.getBody().getContent().get(INDEX).getId());
+		verify(employeeService, times(1)).findByCursor(null, null, "id", "", 1);
+	}
+	
+	@Test
+	void whenFindByFiltersByCursorReturnEmployeeCursorResponseDto() throws BadRequestException {
+		when(employeeService.findByCursor(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt()))
+				.thenReturn(new EmployeeCursorResponseDto(List.of(employeeResponseDataDto), null));
+
+		ResponseEntity<EmployeeCursorResponseDto> response = 
+				employeeResource.findByFiltersByCursor(DepartmentEnum.IT, true, "", "name", 1, null);
+
+		assertNotNull(response);
+		assertNotNull(response.getBody());
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(DepartmentEnum.IT, response.getBody().getContent().get(INDEX).getDepartment());
+		verify(employeeService, times(1)).findByCursor(DepartmentEnum.IT, true, "name", "", 1);
+	}
+	
+	@Test
+	void whenFindByIdReturnOneEmployeeResponseDataDto() throws NotFoundException, IOException {
 		when(employeeService.findOneEmployeeById(anyLong())).thenReturn(employeeResponseDataDto);
 		
-		ResponseEntity<EmployeeResponseDataDto> response = employeeResource.findById(ID);
+		ResponseEntity<byte[]> response = employeeResource.findById(ID, null);
 		
 		assertNotNull(response);
 		assertNotNull(response.getBody());
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertEquals(ResponseEntity.class, response.getClass());
-		assertEquals(EmployeeResponseDataDto.class, response.getBody().getClass());
+		assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+		
+		EmployeeResponseDataDto body = objectMapper.readValue(response.getBody(), EmployeeResponseDataDto.class);
+		assertEquals(ID, body.getId());
+		assertEquals(NAME, body.getName());
+		assertEquals(CPF, body.getCpf());
+		assertEquals(DepartmentEnum.IT, body.getDepartment());
+		assertEquals(true, body.isEnabled());
+	}
+	
+	@Test
+	void whenExportAsCsvWriteAttachment() throws IOException {
+		MockHttpServletResponse httpServletResponse = new MockHttpServletResponse();
+		
+		employeeResource.export(DepartmentEnum.IT, null, ExportFormatEnum.CSV, httpServletResponse);
+		
+		assertEquals("text/csv;charset=UTF-8", httpServletResponse.getContentType());
+		assertEquals("attachment; filename=\"employees.csv\"", httpServletResponse.getHeader("Content-Disposition"));
+		verify(employeeService, times(1)).export(Mockito.eq(DepartmentEnum.IT), Mockito.isNull(), 
+				Mockito.any(CsvEmployeeExportWriter.class));
+	}
+	
+	@Test
+	void whenFindByIdReturnVersionETag() throws NotFoundException {
+		when(employeeService.findOneEmployeeById(anyLong())).thenReturn(employeeResponseDataDto);
+		
+		ResponseEntity<byte[]> response = employeeResource.findById(ID, null);
+		
+		assertEquals("\"3\"", response.getHeaders().getETag());
+	}
+	
+	@Test
+	void whenFindByIdWithMatchingETagReturnNotModifiedWithoutLoadingEmployee() throws NotFoundException {
+		when(employeeService.findVersion(ID)).thenReturn(VERSION);
+		
+		ResponseEntity<byte[]> response = employeeResource.findById(ID, "W/\"2\", \"3\"");
+		
+		assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+		assertNull(response.getBody());
+		assertEquals("\"3\"", response.getHeaders().getETag());
+		verify(employeeService, times(0)).findOneEmployeeById(anyLong());
+	}
+	
+	@Test
+	void whenFindByIdWithStaleETagReturnEmployee() throws NotFoundException {
+		when(employeeService.findVersion(ID)).thenReturn(VERSION);
+		when(employeeService.findOneEmployeeById(anyLong())).thenReturn(employeeResponseDataDto);
+		
+		ResponseEntity<byte[]> response = employeeResource.findById(ID, "\"2\"");
+		
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertNotNull(response.getBody());
+	}
+	
+	@Test
+	void whenFindByFiltersWithMatchingETagReturnNotModifiedWithoutQueryingPage() throws BadRequestException {
+		when(employeeService.findListVersion(DepartmentEnum.IT, true)).thenReturn("1-2-3");
+		
+		ResponseEntity<EmployeeResponseDto> response = 
+				employeeResource.findByFilters(DepartmentEnum.IT, true, Pageable.unpaged(), "\"1-2-3\"");
+		
+		assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+		assertEquals("W/\"1-2-3\"", response.getHeaders().getETag());
+		verify(employeeService, times(0)).findByFilters(Mockito.any(), Mockito.any(), Mockito.any());
+	}
+	
+	@Test
+	void whenFindByFiltersWithMatchingETagAndInvalidSortReturnBadRequestException() {
+		when(employeeService.findListVersion(DepartmentEnum.IT, true)).thenReturn("1-2-3");
+		
+		BadRequestException exception = assertThrows(BadRequestException.class, () -> employeeResource.findByFilters(
+				DepartmentEnum.IT, true, PageRequest.of(0, 10, Sort.by("version")), "\"1-2-3\""));
+		
+		assertEquals("Sort by version is not allowed", exception.getMessage());
+	}
+	
+	@Test
+	void whenFindByIdTwiceLoadEmployeeOnce() throws NotFoundException {
+		when(employeeService.findOneEmployeeById(anyLong())).thenReturn(employeeResponseDataDto);
 		
-		assertEquals(ID, response.getBody().getId());
-		assertEquals(NAME, response.getBody().getName());
-		assertEquals(CPF, response.getBody().getCpf());
-		assertEquals(DepartmentEnum.IT, response.getBody().getDepartment());
-		assertEquals(true, response.getBody().isEnabled());
+		employeeResource.findById(ID, null);
+		employeeResource.findById(ID, null);
+		
+		verify(employeeService, times(1)).findOneEmployeeById(ID);
 	}
 	
 	@Test
@@ -152,6 +302,58 @@ public class EmployeeResourceTest {
 		assertNotNull(response.getHeaders().get("Location"));
 	}
 	
+	@Test
+	void whenCreateAllReturnOk() throws BadRequestException, ConflictException {
+		when(employeeService.createAll(Mockito.any())).thenReturn(List.of(EmployeeBatchResponseDto.builder()
+				.index(INDEX).id(ID).cpf(CPF).status(BatchStatusEnum.CREATED).build()));
+
+		ResponseEntity<List<EmployeeBatchResponseDto>> response = employeeResource.createAll(List.of(employeeRequestDto));
+
+		assertNotNull(response);
+		assertNotNull(response.getBody());
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(ID, response.getBody().get(INDEX).getId());
+		assertEquals(BatchStatusEnum.CREATED, response.getBody().get(INDEX).getStatus());
+	}
+	
+	@Test
+	void whenSearchReturnEmployeeResponseDataDtoPage() throws BadRequestException {
+		Pageable pageable = PageRequest.of(0, 20);
+		when(employeeService.search(NAME, pageable)).thenReturn(new PageImpl<>(List.of(employeeResponseDataDto)));
+
+		ResponseEntity<Page<EmployeeResponseDataDto>> response = employeeResource.search(NAME, pageable);
+
+		assertNotNull(response);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(ID, response.getBody().getContent().get(INDEX).getId());
+	}
+	
+	@Test
+	void whenFindStatsReturnOneEntryPerDepartment() {
+		when(employeeService.findStats()).thenReturn(List.of(EmployeeStatsResponseDto.builder()
+				.department(DepartmentEnum.IT).totalActive(1).totalInactive(0).build()));
+
+		ResponseEntity<List<EmployeeStatsResponseDto>> response = employeeResource.findStats();
+
+		assertNotNull(response);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(DepartmentEnum.IT, response.getBody().get(INDEX).getDepartment());
+		assertEquals(1, response.getBody().get(INDEX).getTotalActive());
+	}
+	
+	@Test
+	void whenImportCsvReturnOk() throws IOException, BadRequestException {
+		when(employeeCsvImporter.importCsv(Mockito.any())).thenReturn(EmployeeImportResponseDto.builder()
+				.total(1).created(1).rejections(List.of()).build());
+
+		ResponseEntity<EmployeeImportResponseDto> response = employeeResource.importCsv(
+				new ByteArrayInputStream("name,cpf,department\n".getBytes()));
+
+		assertNotNull(response);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(1, response.getBody().getCreated());
+	}
+	
 	@Test
 	void whenUpdateEmployeeStatusReturnNoContent() throws NotFoundException {
 		ResponseEntity<Void> response = employeeResource.updateEmployeeStatus(ID, employeeStatusRequestDto);
@@ -159,6 +361,56 @@ public class EmployeeResourceTest {
 		assertNotNull(response);
 		assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode()); 
 		assertEquals(ResponseEntity.class, response.getClass());
+		verify(employeeService, times(1)).updateEmployeeStatus(ID, employeeStatusRequestDto);
+	}
+	
+	@Test
+	void whenUpdateEmployeeStatusQueuedReturnAccepted() throws NotFoundException {
+		when(employeeStatusQueueProvider.getIfAvailable()).thenReturn(employeeStatusQueue);
+		when(employeeStatusQueue.submit(ID, employeeStatusRequestDto)).thenReturn(true);
+		
+		ResponseEntity<Void> response = employeeResource.updateEmployeeStatus(ID, employeeStatusRequestDto);
+		
+		assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+		verify(employeeService, times(0)).updateEmployeeStatus(ID, employeeStatusRequestDto);
+	}
+	
+	@Test
+	void whenUpdateEmployeeStatusQueueFullReturnNoContent() throws NotFoundException {
+		when(employeeStatusQueueProvider.getIfAvailable()).thenReturn(employeeStatusQueue);
+		when(employeeStatusQueue.submit(ID, employeeStatusRequestDto)).thenReturn(false);
+		
+		ResponseEntity<Void> response = employeeResource.updateEmployeeStatus(ID, employeeStatusRequestDto);
+		
+		assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+		verify(employeeService, times(0)).updateEmployeeStatus(ID, employeeStatusRequestDto);
+	}
+	
+	@Test
+	void whenUpdateEmployeesStatusReturnUpdatedRows() throws BadRequestException {
+		when(employeeService.updateEmployeesStatus(Mockito.any()))
+				.thenReturn(EmployeeBulkStatusResponseDto.builder().updated(2).build());
+		
+		ResponseEntity<EmployeeBulkStatusResponseDto> response = employeeResource.updateEmployeesStatus(
+				new EmployeeBulkStatusRequestDto(List.of(1l, 2l), null, false));
+		
+		assertNotNull(response);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(2, response.getBody().getUpdated());
+	}
+	
+	@Test
+	void whenDeleteAllReturnDeletedAndNotFoundCounts() throws BadRequestException {
+		when(employeeService.deleteAll(Mockito.any()))
+				.thenReturn(EmployeeBulkDeleteResponseDto.builder().deleted(2).notFound(1).build());
+		
+		ResponseEntity<EmployeeBulkDeleteResponseDto> response = employeeResource.deleteAll(
+				new EmployeeBulkDeleteRequestDto(List.of(1l, 2l, 3l), null, null));
+		
+		assertNotNull(response);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(2, response.getBody().getDeleted());
+		assertEquals(1, response.getBody().getNotFound());
 	}
 	
 	@Test
@@ -4,6 +4,8 @@ import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
 
+import java.util.List;
+
 public class EmployeeResourceIntegrationBody {
     public static EmployeeRequestDto employeeException() {
         return new EmployeeRequestDto(null, "88888888888", DepartmentEnum.IT, true);
@@ -16,4 +18,11 @@ public class EmployeeResourceIntegrationBody {
     public static EmployeeStatusRequestDto updateEmployeeStatus() {
         return new EmployeeStatusRequestDto(false);
     }
+
+    public static List<EmployeeRequestDto> createEmployees() {
+        return List.of(
+                new EmployeeRequestDto("Batch", "33333333333", DepartmentEnum.HUMAN_RESOURCES, true),
+                new EmployeeRequestDto("Batch", "00000000000", DepartmentEnum.HUMAN_RESOURCES, true),
+                new EmployeeRequestDto(null, "44444444444", DepartmentEnum.HUMAN_RESOURCES, true));
+    }
 }
\ No newline at end of file
@@ -1,18 +1,45 @@
 package com.github.silviacristinaa.employees.resources.employeeIntegration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkDeleteRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
 import com.github.silviacristinaa.employees.entities.Employee;
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.enums.PayloadFormatEnum;
 import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
 import com.github.silviacristinaa.employees.resources.integrations.IntegrationTests;
+import com.github.silviacristinaa.employees.stats.EmployeeHeadcounts;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -23,6 +50,12 @@ public class EmployeeResourceIntegrationTest extends IntegrationTests {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeHeadcounts employeeHeadcounts;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @Order(1)
     public void whenTryCreateEmployeeWithInvalidFieldsReturnBadRequestException() throws Exception {
@@ -75,8 +108,8 @@ public class EmployeeResourceIntegrationTest extends IntegrationTests {
                         .param("enabled", "true")
                         .param("size", "1")
                         .headers(mockHttpHeaders())).andExpect(status().isOk())
-                .andExpect(jsonPath("totalActive").exists())
-                .andExpect(jsonPath("totalInactive").exists())
+                .andExpect(jsonPath("totalActive").value(1))
+                .andExpect(jsonPath("totalInactive").value(0))
                 .andExpect(jsonPath("employeeResponseDataDto.totalElements").value(1))
                 .andExpect(jsonPath("employeeResponseDataDto.content").isArray())
                 .andExpect(jsonPath("employeeResponseDataDto.content").isNotEmpty())
@@ -143,6 +176,10 @@ public class EmployeeResourceIntegrationTest extends IntegrationTests {
         assertEquals(employee.get().getCpf(), "88888888888");
         assertEquals(employee.get().getDepartment(), DepartmentEnum.IT);
         assertEquals(employee.get().isEnabled(), false);
+
+        mvc.perform(get("/employees/{id}", employeeId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("enabled", is(false)));
     }
 
     @Test
@@ -214,4 +251,428 @@ public class EmployeeResourceIntegrationTest extends IntegrationTests {
         Optional<Employee> employee = employeeRepository.findById(Long.valueOf(employeeId));
         assertFalse(employee.isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(17)
+    public void whenFindAllSortedByNameReturnSuccess() throws Exception {
+        mvc.perform(get("/employees").param("sort", "name,desc").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].cpf", is("00000000000")))
+                .andExpect(jsonPath("sort.sorted", is(true)));
+    }
+
+    @Test
+    @Order(18)
+    public void whenTryFindAllSortedByUnknownFieldReturnBadRequest() throws Exception {
+        mvc.perform(get("/employees").param("sort", "salary").headers(mockHttpHeaders()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("message", is("Bad request")))
+                .andExpect(jsonPath("errors.[0]", is("Sort by salary is not allowed")));
+    }
+
+    @Test
+    @Order(19)
+    public void whenFindAllByCursorReturnPagesInKeyOrder() throws Exception {
+        employeeRepository.save(new Employee(null, "Test", "11111111111", DepartmentEnum.IT, true));
+        employeeRepository.save(new Employee(null, "Test", "22222222222", DepartmentEnum.COMMERCIAL, false));
+
+        String[] next = new String[1];
+        mvc.perform(get("/employees").param("cursor", "").param("sort", "cpf").param("size", "2")
+                        .headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].cpf", is("00000000000")))
+                .andExpect(jsonPath("content[1].cpf", is("11111111111")))
+                .andExpect(jsonPath("next").isNotEmpty())
+                .andDo(i -> next[0] = JsonPath.read(i.getResponse().getContentAsString(), "next"));
+
+        mvc.perform(get("/employees").param("cursor", next[0]).param("size", "2").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].cpf", is("22222222222")))
+                .andExpect(jsonPath("content.length()", is(1)))
+                .andExpect(jsonPath("next").value(nullValue()));
+    }
+
+    @Test
+    @Order(20)
+    public void whenFindByFiltersByCursorReturnOnlyMatchingEmployees() throws Exception {
+        mvc.perform(get("/employees/filters").param("cursor", "").param("department", "IT")
+                        .headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content.length()", is(2)))
+                .andExpect(jsonPath("content[0].department", is("IT")))
+                .andExpect(jsonPath("content[1].department", is("IT")));
+    }
+
+    @Test
+    @Order(21)
+    public void whenTryFindAllWithInvalidCursorReturnBadRequest() throws Exception {
+        mvc.perform(get("/employees").param("cursor", "invalid").headers(mockHttpHeaders()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("message", is("Bad request")))
+                .andExpect(jsonPath("errors.[0]", is("Invalid cursor")));
+    }
+
+    @Test
+    @Order(22)
+    public void whenCreateAllReturnOneResultPerEmployee() throws Exception {
+        mvc.perform(post("/employees/batch").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                EmployeeResourceIntegrationBody.createEmployees())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].status", is("CREATED")))
+                .andExpect(jsonPath("[0].id").exists())
+                .andExpect(jsonPath("[1].status", is("CONFLICT")))
+                .andExpect(jsonPath("[1].errors.[0]", is("Cpf already registered in the system")))
+                .andExpect(jsonPath("[2].status", is("INVALID")))
+                .andExpect(jsonPath("[2].errors.[0]", is("name must not be blank")));
+
+        Optional<Employee> employee = employeeRepository.findByCpf("33333333333");
+        assertTrue(employee.isPresent());
+        assertEquals(employee.get().getDepartment(), DepartmentEnum.HUMAN_RESOURCES);
+        assertFalse(employeeRepository.findByCpf("44444444444").isPresent());
+    }
+
+    @Test
+    @Order(23)
+    public void whenTryCreateEmployeeWithCpfUnknownToFilterReturnConflictException() throws Exception {
+        employeeRepository.save(new Employee(null, "Test", "55555555555", DepartmentEnum.IT, true));
+
+        mvc.perform(post("/employees").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new EmployeeRequestDto("Test", "55555555555", DepartmentEnum.IT, true))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("message", is("Conflict")))
+                .andExpect(jsonPath("errors.[0]", is("Cpf already registered in the system")));
+    }
+
+    @Test
+    @Order(24)
+    public void whenFindByIdRepeatedlyServeFromResponseCache() throws Exception {
+        Employee employee = employeeRepository.findByCpf("33333333333").orElseThrow();
+
+        mvc.perform(get("/employees/{id}", employee.getId()).headers(mockHttpHeaders()))
+                .andExpect(status().isOk());
+        mvc.perform(get("/employees/{id}", employee.getId()).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("cpf", is("33333333333")));
+
+        mvc.perform(get("/actuator/employeecache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("hitCount", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("missCount", greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    @Order(25)
+    public void whenExportAsCsvReturnHeaderAndMatchingRows() throws Exception {
+        String csv = mvc.perform(get("/employees/export").param("format", "CSV").param("department", "HUMAN_RESOURCES"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"employees.csv\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = csv.split("\n");
+        assertEquals("id,name,cpf,department,enabled", lines[0]);
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].endsWith(",Batch,33333333333,HUMAN_RESOURCES,true"));
+    }
+
+    @Test
+    @Order(26)
+    public void whenExportAsNdjsonReturnOneDocumentPerEmployee() throws Exception {
+        String ndjson = mvc.perform(get("/employees/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = ndjson.split("\n");
+        assertEquals(employeeRepository.count(), lines.length);
+        for (String line : lines) {
+            assertNotNull(objectMapper.readTree(line).get("cpf"));
+        }
+    }
+
+    @Test
+    @Order(27)
+    public void whenImportCsvCreateValidLinesAndReportRejectedOnes() throws Exception {
+        String csv = "name,cpf,department,enabled\n"
+                + "Imported,52998224725,IT,true\n"
+                + "Imported,11111111111,IT,true\n"
+                + "Imported,12345678900,SALES,true\n";
+
+        mvc.perform(post("/employees/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("total", is(3)))
+                .andExpect(jsonPath("created", is(1)))
+                .andExpect(jsonPath("rejected", is(2)))
+                .andExpect(jsonPath("rejections.[0].line", is(3)))
+                .andExpect(jsonPath("rejections.[0].status", is("CONFLICT")))
+                .andExpect(jsonPath("rejections.[1].line", is(4)))
+                .andExpect(jsonPath("rejections.[1].status", is("INVALID")));
+
+        assertTrue(employeeRepository.findByCpf("52998224725").isPresent());
+    }
+
+    @Test
+    @Order(28)
+    public void whenScrapePrometheusReturnServiceAndRepositoryMeters() throws Exception {
+        String metrics = mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(metrics.contains("employees_service_seconds_count{class=\"EmployeeService\",exception=\"none\",method=\"findAll\""));
+        assertTrue(metrics.contains("employees_repository_rows_count{class=\"EmployeeRepository\",method=\"findByCpf\""));
+        assertTrue(metrics.contains("employees_exceptions_total{class=\"EmployeeService\",exception=\"NotFoundException\""));
+    }
+
+    @Test
+    @Order(29)
+    public void whenCreateEmployeeIncrementStatsAndReconcileMatchDatabase() throws Exception {
+        int itActive = JsonPath.read(mvc.perform(get("/employees/stats").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[1].department", is("IT")))
+                .andReturn().getResponse().getContentAsString(), "$[1].totalActive");
+
+        mvc.perform(post("/employees").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new EmployeeRequestDto("Stats", "11144477735", DepartmentEnum.IT, true))))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/employees/stats").headers(mockHttpHeaders()))
+                .andExpect(jsonPath("[1].totalActive", is(itActive + 1)));
+
+        employeeHeadcounts.reconcile();
+
+        mvc.perform(get("/employees/stats").headers(mockHttpHeaders()))
+                .andExpect(jsonPath("[1].totalActive", is((int) employeeRepository.findAll().stream()
+                        .filter(e -> e.getDepartment() == DepartmentEnum.IT && e.isEnabled()).count())))
+                .andExpect(jsonPath("[2].department", is("COMMERCIAL")))
+                .andExpect(jsonPath("[2].totalInactive", is(1)));
+    }
+
+    @Test
+    @Order(30)
+    public void whenUpdateEmployeesStatusByDepartmentAndIdsReturnUpdatedRows() throws Exception {
+        mvc.perform(patch("/employees/status").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new EmployeeBulkStatusRequestDto(null, DepartmentEnum.COMMERCIAL, true))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("updated", is(1)));
+
+        mvc.perform(get("/employees/stats").headers(mockHttpHeaders()))
+                .andExpect(jsonPath("[2].totalInactive", is(0)));
+
+        List<Long> ids = employeeRepository.findAll().stream()
+                .filter(e -> e.getDepartment() == DepartmentEnum.COMMERCIAL)
+                .map(Employee::getId).collect(Collectors.toList());
+        mvc.perform(patch("/employees/status").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new EmployeeBulkStatusRequestDto(ids, null, false))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("updated", is(ids.size())));
+
+        mvc.perform(get("/employees/stats").headers(mockHttpHeaders()))
+                .andExpect(jsonPath("[2].totalActive", is(0)))
+                .andExpect(jsonPath("[2].totalInactive", is(ids.size())));
+        assertTrue(employeeRepository.findAllById(ids).stream().noneMatch(Employee::isEnabled));
+    }
+
+    @Test
+    @Order(31)
+    public void whenTryUpdateEmployeesStatusWithIdsAndDepartmentReturnBadRequest() throws Exception {
+        mvc.perform(patch("/employees/status").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new EmployeeBulkStatusRequestDto(List.of(1L), DepartmentEnum.IT, false))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors.[0]", is("Inform either ids or department")));
+    }
+
+    @Test
+    @Order(32)
+    public void whenDeleteAllByIdsAndFilterReturnDeletedAndNotFoundCounts() throws Exception {
+        List<Long> ids = employeeRepository.findAll().stream()
+                .filter(e -> e.getDepartment() == DepartmentEnum.COMMERCIAL)
+                .map(Employee::getId).collect(Collectors.toList());
+        List<Long> requested = new ArrayList<>(ids);
+        requested.add(999L);
+
+        mvc.perform(delete("/employees").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new EmployeeBulkDeleteRequestDto(requested, null, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("deleted", is(ids.size())))
+                .andExpect(jsonPath("notFound", is(1)));
+        assertTrue(employeeRepository.findAllById(ids).isEmpty());
+
+        long itInactive = employeeRepository.findAll().stream()
+                .filter(e -> e.getDepartment() == DepartmentEnum.IT && !e.isEnabled()).count();
+        mvc.perform(delete("/employees").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new EmployeeBulkDeleteRequestDto(null, DepartmentEnum.IT, false))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("deleted", is((int) itInactive)))
+                .andExpect(jsonPath("notFound", is(0)));
+
+        mvc.perform(get("/employees/stats").headers(mockHttpHeaders()))
+                .andExpect(jsonPath("[1].totalInactive", is(0)))
+                .andExpect(jsonPath("[2].totalActive", is(0)))
+                .andExpect(jsonPath("[2].totalInactive", is(0)));
+    }
+
+    @Test
+    @Order(33)
+    public void whenTryDeleteAllWithoutIdsOrFilterReturnBadRequest() throws Exception {
+        mvc.perform(delete("/employees").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new EmployeeBulkDeleteRequestDto(null, null, null))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors.[0]", is("Inform either ids or a department/enabled filter")));
+    }
+
+    @Test
+    @Order(34)
+    public void whenFindByIdWithCurrentETagReturnNotModifiedUntilEmployeeChanges() throws Exception {
+        Employee employee = employeeRepository.findAll().get(0);
+        String etag = mvc.perform(get("/employees/{id}", employee.getId()).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + employee.getVersion() + "\""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mvc.perform(get("/employees/{id}", employee.getId()).headers(mockHttpHeaders()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        mvc.perform(patch("/employees/{id}", employee.getId()).headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new EmployeeStatusRequestDto(!employee.isEnabled()))))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/employees/{id}", employee.getId()).headers(mockHttpHeaders()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + (employee.getVersion() + 1) + "\""));
+    }
+
+    @Test
+    @Order(35)
+    public void whenFindByFiltersWithCurrentETagReturnNotModifiedUntilFilteredEmployeesChange() throws Exception {
+        String etag = mvc.perform(get("/employees/filters").param("department", "IT").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/\"")))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mvc.perform(get("/employees/filters").param("department", "IT").headers(mockHttpHeaders())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mvc.perform(post("/employees").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new EmployeeRequestDto("ETag", "71460238001", DepartmentEnum.IT, true))))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/employees/filters").param("department", "IT").headers(mockHttpHeaders())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    @Order(36)
+    public void whenCreateAndFindEmployeeInCborReturnCborPayloadWithItsOwnETag() throws Exception {
+        ObjectMapper cborMapper = new CBORMapper();
+        String location = mvc.perform(post("/employees").contentType(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(
+                                new EmployeeRequestDto("Cbor", "20415683050", DepartmentEnum.COMMERCIAL, true))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location");
+        String id = getIdByLocation(location);
+
+        MvcResult json = mvc.perform(get("/employees/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+        MvcResult cbor = mvc.perform(get("/employees/{id}", id).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn();
+
+        byte[] body = cbor.getResponse().getContentAsByteArray();
+        assertEquals("Cbor", cborMapper.readValue(body, EmployeeResponseDataDto.class).getName());
+        assertTrue(body.length < json.getResponse().getContentAsByteArray().length);
+        assertNotEquals(json.getResponse().getHeader("ETag"), cbor.getResponse().getHeader("ETag"));
+
+        mvc.perform(get("/employees/{id}", id).accept(MediaType.APPLICATION_CBOR)
+                        .header("If-None-Match", cbor.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+        mvc.perform(get("/employees/{id}", id).header("If-None-Match", cbor.getResponse().getHeader("ETag")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(37)
+    public void whenFindByFiltersInSmileReturnSmilePage() throws Exception {
+        byte[] body = mvc.perform(get("/employees/filters").param("department", "COMMERCIAL")
+                        .accept(PayloadFormatEnum.SMILE.getMediaType()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PayloadFormatEnum.SMILE.getMediaType()))
+                .andExpect(header().string("ETag", endsWith("+smile\"")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Map<?, ?> page = new SmileMapper().readValue(body, Map.class);
+        assertTrue(((Number) page.get("totalActive")).longValue() >= 1);
+    }
+
+    @Test
+    @Order(38)
+    public void whenFindByCpfAndChecksumAgainServeThemFromQueryCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Employee employee = employeeRepository.findAll().get(0);
+        employeeRepository.findByCpf(employee.getCpf());
+        employeeRepository.checksumByDepartmentAndStatus(DepartmentEnum.IT, null);
+        long queryHits = statistics.getQueryCacheHitCount();
+
+        assertTrue(employeeRepository.findByCpf(employee.getCpf()).isPresent());
+        assertNotNull(employeeRepository.checksumByDepartmentAndStatus(DepartmentEnum.IT, null));
+
+        assertEquals(queryHits + 2, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getSecondLevelCacheHitCount() + statistics.getSecondLevelCachePutCount());
+    }
+
+    @Test
+    @Order(39)
+    public void whenCreateAllAfterCachedLookupFindCreatedEmployee() throws Exception {
+        assertTrue(employeeRepository.findByCpf("31850264708").isEmpty());
+
+        mvc.perform(post("/employees/batch").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                List.of(new EmployeeRequestDto("Cached", "31850264708", DepartmentEnum.IT, true)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].status", is("CREATED")));
+
+        assertTrue(employeeRepository.findByCpf("31850264708").isPresent());
+    }
+
+    @Test
+    @Order(40)
+    public void whenSearchByNameFollowCreateAndRename() throws Exception {
+        String id = getIdByLocation(mvc.perform(post("/employees").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new EmployeeRequestDto("Conceição Araújo", "61120947383", DepartmentEnum.IT, true))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location"));
+
+        mvc.perform(get("/employees/search").param("q", "CONCEICAO arau").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("totalElements", is(1)))
+                .andExpect(jsonPath("content[0].id", is(Integer.valueOf(id))))
+                .andExpect(jsonPath("content[0].name", is("Conceição Araújo")));
+
+        mvc.perform(put("/employees/{id}", id).headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new EmployeeRequestDto("Conceição Ribeiro", "61120947383", DepartmentEnum.IT, true))))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/employees/search").param("q", "araujo").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("totalElements", is(0)));
+        mvc.perform(get("/employees/search").param("q", "concei rib").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content[0].name", is("Conceição Ribeiro")));
+    }
+}
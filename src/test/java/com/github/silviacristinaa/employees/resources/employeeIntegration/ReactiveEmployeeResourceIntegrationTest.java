@@ -0,0 +1,193 @@
+package com.github.silviacristinaa.employees.resources.employeeIntegration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.indexes.EmployeeNameIndex;
+import com.github.silviacristinaa.employees.services.EmployeeService;
+import com.github.silviacristinaa.employees.stats.EmployeeHeadcounts;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(properties = {
+        "spring.flyway.url=jdbc:h2:mem:reactivedb;DB_CLOSE_DELAY=-1",
+        "spring.flyway.user=username",
+        "spring.flyway.password=",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactivedb",
+        "spring.r2dbc.username=username",
+        "spring.r2dbc.password="})
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ReactiveEmployeeResourceIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private String employeeId;
+
+    @Test
+    @Order(1)
+    public void whenTryCreateEmployeeWithInvalidFieldsReturnBadRequestException() {
+        webTestClient.post().uri("/employees").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EmployeeResourceIntegrationBody.employeeException())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("message").isEqualTo("Arguments not valid");
+    }
+
+    @Test
+    @Order(2)
+    public void whenCreateEmployeeReturnCreated() {
+        String location = webTestClient.post().uri("/employees").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EmployeeResourceIntegrationBody.employeeSuccess())
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(Void.class).getResponseHeaders().getLocation().toString();
+        employeeId = location.substring(location.lastIndexOf("/") + 1);
+        assertNotNull(employeeId);
+    }
+
+    @Test
+    @Order(3)
+    public void whenTryCreateEmployeeWithAlreadyExistingCpfReturnConflictException() {
+        webTestClient.post().uri("/employees").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EmployeeResourceIntegrationBody.employeeSuccess())
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("errors[0]").isEqualTo("Cpf already registered in the system");
+    }
+
+    @Test
+    @Order(4)
+    public void whenFindAllReturnPage() {
+        webTestClient.post().uri("/employees").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EmployeeRequestDto("Reactive", "11111111111", DepartmentEnum.COMMERCIAL, false))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.get().uri("/employees?size=1&sort=name,desc")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("totalElements").isEqualTo(2)
+                .jsonPath("content.length()").isEqualTo(1)
+                .jsonPath("content[0].name").isEqualTo("Test");
+    }
+
+    @Test
+    @Order(5)
+    public void whenStreamAllReturnOneDocumentPerEmployee() {
+        List<EmployeeResponseDataDto> employees = webTestClient.get().uri("/employees")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(EmployeeResponseDataDto.class).getResponseBody()
+                .collectList().block();
+
+        assertNotNull(employees);
+        assertEquals(2, employees.size());
+    }
+
+    @Test
+    @Order(6)
+    public void whenFindByFiltersReturnTotalsAndPage() {
+        webTestClient.get().uri("/employees/filters?department=IT")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("totalActive").isEqualTo(1)
+                .jsonPath("totalInactive").isEqualTo(0)
+                .jsonPath("employeeResponseDataDto.content[0].id").isEqualTo(Long.valueOf(employeeId));
+    }
+
+    @Test
+    @Order(7)
+    public void whenUpdateEmployeeStatusReturnNoContent() {
+        webTestClient.patch().uri("/employees/{id}", employeeId).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EmployeeStatusRequestDto(false))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/employees/{id}", employeeId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("enabled").isEqualTo(false);
+    }
+
+    @Test
+    @Order(8)
+    public void whenTryUpdateEmployeeToExistingCpfReturnConflictException() {
+        webTestClient.put().uri("/employees/{id}", employeeId).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EmployeeRequestDto("Test", "11111111111", DepartmentEnum.IT, true))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    @Order(9)
+    public void whenDeleteEmployeeReturnNoContentAndThenNotFound() {
+        webTestClient.delete().uri("/employees/{id}", employeeId)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/employees/{id}", employeeId)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("message").isEqualTo("Not found");
+    }
+
+    @Test
+    @Order(10)
+    public void whenCreateAndFindEmployeeInCborReturnCborPayloads() throws Exception {
+        ObjectMapper cborMapper = new CBORMapper();
+        String location = webTestClient.post().uri("/employees").contentType(MediaType.APPLICATION_CBOR)
+                .bodyValue(cborMapper.writeValueAsBytes(new EmployeeRequestDto("Cbor", "71460238001", DepartmentEnum.IT, true)))
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(Void.class).getResponseHeaders().getLocation().getPath();
+
+        byte[] body = webTestClient.get().uri("/employees/{id}", location.substring(location.lastIndexOf("/") + 1))
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+
+        assertEquals("Cbor", cborMapper.readValue(body, EmployeeResponseDataDto.class).getName());
+    }
+
+    @Test
+    @Order(11)
+    public void whenReactiveRunNoJdbcPoolOrBlockingEmployeeBeans() {
+        assertEquals(0, applicationContext.getBeanNamesForType(DataSource.class).length);
+        assertEquals(0, applicationContext.getBeanNamesForType(EntityManagerFactory.class).length);
+        assertEquals(0, applicationContext.getBeanNamesForType(EmployeeService.class).length);
+        assertEquals(0, applicationContext.getBeanNamesForType(EmployeeHeadcounts.class).length);
+        assertEquals(0, applicationContext.getBeanNamesForType(EmployeeNameIndex.class).length);
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.silviacristinaa.employees.resources.employeeIntegration;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.resources.integrations.IntegrationTests;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primarydb",
+        "employees.datasource.replicas[0].url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "employees.datasource.replicas[0].username=username",
+        "employees.datasource.max-lag=PT1M"})
+public class ReplicaRoutingIntegrationTest extends IntegrationTests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1";
+
+    private static final long REPLICA_ONLY_ID = 1000L;
+    private static final String COUNT_BY_CPF = "SELECT COUNT(*) FROM employee WHERE cpf = ?";
+    private static final String CPF = "88888888888";
+
+    @Autowired
+    private JdbcTemplate primaryJdbcTemplate;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeAll
+    public void setUpReplica() {
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL, "username", "");
+        Flyway.configure().dataSource(replica)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load().migrate();
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+        replicaJdbcTemplate.update("INSERT INTO employee (id, name, cpf, department, enabled) VALUES (?, ?, ?, ?, ?)",
+                REPLICA_ONLY_ID, "Replica", "71460238001", "IT", true);
+    }
+
+    @Test
+    @Order(1)
+    public void whenFindByIdReadFromPrimary() throws Exception {
+        mvc.perform(get("/employees/{id}", REPLICA_ONLY_ID).headers(mockHttpHeaders()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(2)
+    public void whenCreateEmployeeWriteToPrimary() throws Exception {
+        mvc.perform(post("/employees").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                EmployeeResourceIntegrationBody.employeeSuccess())))
+                .andExpect(status().isCreated());
+
+        assertEquals(1, primaryJdbcTemplate.queryForObject(COUNT_BY_CPF, Long.class, CPF));
+        assertEquals(0, replicaJdbcTemplate.queryForObject(COUNT_BY_CPF, Long.class, CPF));
+    }
+
+    @Test
+    @Order(3)
+    public void whenFindAllReadFromReplica() throws Exception {
+        mvc.perform(get("/employees").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("totalElements", is(1)))
+                .andExpect(jsonPath("content[0].name", is("Replica")));
+    }
+
+    @Test
+    @Order(4)
+    public void whenUpdateWhileReplicaLagsTagStaleListWithReplicaVersion() throws Exception {
+        Long id = primaryJdbcTemplate.queryForObject("SELECT id FROM employee WHERE cpf = ?", Long.class, CPF);
+        replicaJdbcTemplate.update("INSERT INTO employee (id, name, cpf, department, enabled) VALUES (?, ?, ?, ?, ?)",
+                id, "Test", CPF, "IT", true);
+        String replicatedETag = mvc.perform(get("/employees").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(put("/employees/{id}", id).headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new EmployeeRequestDto("Updated", CPF, DepartmentEnum.IT, true))))
+                .andExpect(status().isNoContent());
+
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(get("/employees/{id}", id).headers(mockHttpHeaders()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("name", is("Updated")));
+        }
+        mvc.perform(get("/employees").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, replicatedETag))
+                .andExpect(jsonPath("content[?(@.id == " + id + ")].name", contains("Test")));
+
+        replicaJdbcTemplate.update("UPDATE employee SET name = ?, version = ? WHERE id = ?", "Updated",
+                primaryJdbcTemplate.queryForObject("SELECT version FROM employee WHERE id = ?", Long.class, id), id);
+
+        mvc.perform(get("/employees").headers(mockHttpHeaders()).header(HttpHeaders.IF_NONE_MATCH, replicatedETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(replicatedETag)))
+                .andExpect(jsonPath("content[?(@.id == " + id + ")].name", contains("Updated")));
+    }
+}
@@ -1,15 +1,23 @@
 package com.github.silviacristinaa.employees.services.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,20 +25,48 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.modelmapper.ModelMapper;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.github.silviacristinaa.employees.caches.EmployeeResponseCache;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkDeleteRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeBulkStatusRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
 import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBatchResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkDeleteResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeBulkStatusResponseDto;
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeCursorResponseDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDataDto;
 import com.github.silviacristinaa.employees.dtos.responses.EmployeeResponseDto;
 import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.BatchStatusEnum;
 import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
 import com.github.silviacristinaa.employees.exceptions.ConflictException;
 import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.exports.EmployeeExportWriter;
+import com.github.silviacristinaa.employees.indexes.CpfBloomFilter;
+import com.github.silviacristinaa.employees.indexes.EmployeeNameIndex;
+import com.github.silviacristinaa.employees.indexes.EmployeeNameIndex.Hits;
+import com.github.silviacristinaa.employees.mappers.EmployeeMapper;
+import com.github.silviacristinaa.employees.pagination.EmployeeCursor;
+import com.github.silviacristinaa.employees.repositories.EmployeeJdbcRepository;
 import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeChecksum;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeHeadcount;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeIndexEntry;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeStatusTotals;
+import com.github.silviacristinaa.employees.stats.EmployeeHeadcounts;
+
+import jakarta.validation.Validator;
 
 @ExtendWith(SpringExtension.class)
 public class EmployeeServiceImplTest {
@@ -45,15 +81,34 @@ public class EmployeeServiceImplTest {
 	private EmployeeResponseDataDto employeeResponseDataDto;
 	
 	private Employee employee;
+	private EmployeeStatusTotals employeeStatusTotals;
 
 	@InjectMocks
 	private EmployeeServiceImpl employeeServiceImpl;
 
 	@Mock
 	private EmployeeRepository employeeRepository;
-
+	
+	@Mock
+	private EmployeeJdbcRepository employeeJdbcRepository;
+	
+	@Mock
+	private Validator validator;
+	
+	@Mock
+	private CpfBloomFilter cpfBloomFilter;
+	
+	@Mock
+	private EmployeeNameIndex employeeNameIndex;
+	
 	@Mock
-	private ModelMapper modelMapper;
+	private EmployeeResponseCache employeeResponseCache;
+	
+	@Spy
+	private EmployeeMapper employeeMapper;
+	
+	@Mock
+	private EmployeeHeadcounts employeeHeadcounts;
 
 	@BeforeEach
 	void setUp() {
@@ -64,12 +119,16 @@ public class EmployeeServiceImplTest {
 		employeeResponseDataDto = new EmployeeResponseDataDto(ID, NAME, CPF, DepartmentEnum.IT, true);
 		
 		employee = new Employee(ID, NAME, CPF, DepartmentEnum.IT, true);
+		
+		employeeStatusTotals = Mockito.mock(EmployeeStatusTotals.class);
+		when(employeeStatusTotals.getTotalActive()).thenReturn(1l);
+		when(employeeStatusTotals.getTotalInactive()).thenReturn(0l);
 	}
 	
 	@Test
-	void whenFindAllReturnEmployeeResponseDataDtoPage() {
-		when(employeeRepository.findAll()).thenReturn(List.of(employee));
-		when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(employeeResponseDataDto);
+	void whenFindAllReturnEmployeeResponseDataDtoPage() throws BadRequestException {
+		when(employeeRepository.findByDepartmentAndStatus(Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(List.of(employeeResponseDataDto));
 
 		Page<EmployeeResponseDataDto> response = employeeServiceImpl.findAll(Pageable.ofSize(1));
 
@@ -85,9 +144,40 @@ public class EmployeeServiceImplTest {
 	}
 	
 	@Test
-	void whenFindByFiltersReturnOneEmployeeResponseDto() {
-		when(employeeRepository.findByDepartmentAndStatus(Mockito.any(), Mockito.any())).thenReturn(List.of(employee));
-		when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(employeeResponseDataDto);
+	void whenFindAllSortedByNameQueryPageSortedByNameAndId() throws BadRequestException {
+		when(employeeRepository.findByDepartmentAndStatus(Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(List.of(employeeResponseDataDto));
+
+		employeeServiceImpl.findAll(PageRequest.of(0, 10, Sort.by("name")));
+
+		verify(employeeRepository, times(1)).findByDepartmentAndStatus(null, null, PageRequest.of(0, 10, Sort.by("name", "id")));
+	}
+	
+	@Test
+	void whenFindAllReturnPartialPageSkipCountQuery() throws BadRequestException {
+		List<EmployeeResponseDataDto> page = List.of(employeeResponseDataDto, employeeResponseDataDto);
+		when(employeeRepository.findByDepartmentAndStatus(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(page);
+		when(employeeRepository.count()).thenReturn(5l);
+
+		assertEquals(2, employeeServiceImpl.findAll(PageRequest.of(0, 10)).getTotalElements());
+		assertEquals(5, employeeServiceImpl.findAll(PageRequest.of(0, 2)).getTotalElements());
+
+		verify(employeeRepository, times(1)).count();
+	}
+	
+	@Test
+	void whenTryFindAllSortedByUnknownFieldReturnBadRequestException() {
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> employeeServiceImpl.findAll(PageRequest.of(0, 10, Sort.by("salary"))));
+
+		assertEquals("Sort by salary is not allowed", exception.getMessage());
+	}
+	
+	@Test
+	void whenFindByFiltersReturnOneEmployeeResponseDto() throws BadRequestException {
+		when(employeeRepository.countByDepartmentAndStatus(Mockito.any(), Mockito.any())).thenReturn(employeeStatusTotals);
+		when(employeeRepository.findByDepartmentAndStatus(Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(List.of(employeeResponseDataDto));
 		
 		EmployeeResponseDto response = employeeServiceImpl.findByFilters(null, null, Pageable.ofSize(1));
 		
@@ -105,10 +195,100 @@ public class EmployeeServiceImplTest {
 		assertEquals(true, response.getEmployeeResponseDataDto().getContent().get(INDEX).isEnabled());
 	}
 	
+	@Test
+	void whenFindByFiltersBeyondLastPageSkipPageQuery() throws BadRequestException {
+		when(employeeRepository.countByDepartmentAndStatus(Mockito.any(), Mockito.any())).thenReturn(employeeStatusTotals);
+		
+		EmployeeResponseDto response = employeeServiceImpl.findByFilters(DepartmentEnum.IT, null, PageRequest.of(5, 10));
+		
+		assertEquals(1l, response.getTotalActive());
+		assertEquals(0l, response.getTotalInactive());
+		assertEquals(0, response.getEmployeeResponseDataDto().getNumberOfElements());
+		verify(employeeRepository, times(0)).findByDepartmentAndStatus(Mockito.any(), Mockito.any(), Mockito.any());
+	}
+	
+	@Test
+	void whenFindByCursorWithoutPositionReturnFirstPageAndNextCursor() throws BadRequestException {
+		when(employeeRepository.findByDepartmentAndStatus(Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(List.of(employeeResponseDataDto, new EmployeeResponseDataDto(2l, NAME, "other", DepartmentEnum.IT, true)));
+		
+		EmployeeCursorResponseDto response = employeeServiceImpl.findByCursor(null, null, "name", "", 1);
+		
+		assertEquals(1, response.getContent().size());
+		assertEquals(ID, response.getContent().get(INDEX).getId());
+		assertNotNull(response.getNext());
+		verify(employeeRepository, times(1)).findByDepartmentAndStatus(null, null, PageRequest.of(0, 2, Sort.by("name", "id")));
+	}
+	
+	@Test
+	void whenFindByCursorWithPositionSeekAfterLastKey() throws BadRequestException {
+		when(employeeRepository.findNextByName(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(List.of(employeeResponseDataDto));
+		
+		String cursor = new EmployeeCursor("name", "Previous", 7l).encode();
+		EmployeeCursorResponseDto response = employeeServiceImpl.findByCursor(DepartmentEnum.IT, true, "id", cursor, 1);
+		
+		assertEquals(1, response.getContent().size());
+		assertNull(response.getNext());
+		verify(employeeRepository, times(1)).findNextByName(DepartmentEnum.IT, true, "Previous", 7l, 
+				PageRequest.of(0, 2, Sort.by("name", "id")));
+	}
+	
+	@Test
+	void whenTryFindByCursorSortedByUnsupportedFieldReturnBadRequestException() {
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> employeeServiceImpl.findByCursor(null, null, "enabled", null, 10));
+
+		assertEquals("Cursor sort by enabled is not allowed", exception.getMessage());
+	}
+	
+	@Test
+	void whenSearchReturnEmployeesInIndexRankOrder() throws BadRequestException {
+		EmployeeResponseDataDto other = new EmployeeResponseDataDto(2l, "Testa", CPF, DepartmentEnum.IT, true);
+		List<EmployeeResponseDataDto> employees = List.of(employeeResponseDataDto, other);
+		when(employeeNameIndex.search("tes", 20, 10)).thenReturn(new Hits(List.of(2l, ID), 22));
+		when(employeeRepository.findResponseDataByIds(List.of(2l, ID))).thenReturn(employees);
+		
+		Page<EmployeeResponseDataDto> response = employeeServiceImpl.search("tes", PageRequest.of(2, 10));
+		
+		assertEquals(List.of(2l, ID), response.getContent().stream().map(EmployeeResponseDataDto::getId)
+				.collect(Collectors.toList()));
+		assertEquals(22, response.getTotalElements());
+	}
+	
+	@Test
+	void whenSearchFindsNothingSkipQuery() throws BadRequestException {
+		when(employeeNameIndex.search("nobody", 0, 20)).thenReturn(new Hits(List.of(), 0));
+		
+		Page<EmployeeResponseDataDto> response = employeeServiceImpl.search("nobody", PageRequest.of(0, 20));
+		
+		assertEquals(0, response.getTotalElements());
+		verify(employeeRepository, times(0)).findResponseDataByIds(Mockito.any());
+	}
+	
+	@Test
+	void whenTrySearchBeyondSearchWindowReturnBadRequestException() {
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> employeeServiceImpl.search("tes", PageRequest.of(500, 50)));
+		
+		assertEquals("Search pages must end within the first 10000 results", exception.getMessage());
+	}
+
+	@Test
+	void whenExportWriteEveryEmployee() throws IOException {
+		when(employeeRepository.streamByDepartmentAndStatus(Mockito.any(), Mockito.any()))
+				.thenReturn(Stream.of(employeeResponseDataDto));
+		EmployeeExportWriter writer = Mockito.mock(EmployeeExportWriter.class);
+		
+		employeeServiceImpl.export(DepartmentEnum.IT, true, writer);
+		
+		verify(writer, times(1)).write(Mockito.argThat(dto -> dto.getId().equals(ID) && dto.getCpf().equals(CPF)));
+		verify(writer, times(1)).finish();
+	}
+	
 	@Test
 	void whenFindByIdReturnOneEmployeeResponseDataDto() throws NotFoundException {
-		when(employeeRepository.findById(anyLong())).thenReturn(Optional.of(employee));
-		when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(employeeResponseDataDto);
+		when(employeeRepository.findResponseDataById(anyLong())).thenReturn(Optional.of(employeeResponseDataDto));
 
 		EmployeeResponseDataDto response = employeeServiceImpl.findOneEmployeeById(ID);
 
@@ -124,18 +304,43 @@ public class EmployeeServiceImplTest {
 	
 	@Test
 	void whenTryFindByIdReturnNotFoundException() {
-		when(employeeRepository.findById(anyLong())).thenReturn(Optional.empty());
+		when(employeeRepository.findResponseDataById(anyLong())).thenReturn(Optional.empty());
 
 		NotFoundException exception = assertThrows(NotFoundException.class, () -> employeeServiceImpl.findOneEmployeeById(ID));
 
 		assertEquals(String.format("Employee %s not found", ID), exception.getMessage());
 	}
 	
+	@Test
+	void whenFindVersionReturnEmployeeVersion() throws NotFoundException {
+		when(employeeRepository.findVersionById(ID)).thenReturn(Optional.of(4l));
+		
+		assertEquals(4l, employeeServiceImpl.findVersion(ID));
+	}
+	
+	@Test
+	void whenTryFindVersionReturnNotFoundException() {
+		when(employeeRepository.findVersionById(ID)).thenReturn(Optional.empty());
+
+		NotFoundException exception = assertThrows(NotFoundException.class, () -> employeeServiceImpl.findVersion(ID));
+
+		assertEquals(String.format("Employee %s not found", ID), exception.getMessage());
+	}
+	
+	@Test
+	void whenFindListVersionCombineCountIdSumAndVersionSum() {
+		EmployeeChecksum checksum = Mockito.mock(EmployeeChecksum.class);
+		when(checksum.getTotal()).thenReturn(2l);
+		when(checksum.getIdSum()).thenReturn(31l);
+		when(checksum.getVersionSum()).thenReturn(10l);
+		when(employeeRepository.checksumByDepartmentAndStatus(DepartmentEnum.IT, null)).thenReturn(checksum);
+		
+		assertEquals("2-1f-a", employeeServiceImpl.findListVersion(DepartmentEnum.IT, null));
+	}
+	
 	@Test
 	void whenCreateReturnSuccess() throws ConflictException {
-		when(employeeRepository.findByCpf(Mockito.any())).thenReturn(Optional.empty());
-		when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(employee);
-		when(employeeRepository.save(Mockito.any())).thenReturn(employee);
+		when(employeeRepository.saveAndFlush(Mockito.any())).thenReturn(employee);
 
 		Employee response = employeeServiceImpl.create(employeeRequestDto);
 
@@ -147,47 +352,193 @@ public class EmployeeServiceImplTest {
 		assertEquals(DepartmentEnum.IT, response.getDepartment());
 		assertEquals(true, response.isEnabled());
 
-		verify(employeeRepository, times(1)).save(Mockito.any());
+		verify(employeeRepository, times(1)).saveAndFlush(Mockito.any());
+		verify(employeeRepository, times(0)).findByCpf(Mockito.any());
+		verify(cpfBloomFilter, times(1)).add(CPF);
+		verify(employeeNameIndex, times(1)).put(ID, NAME);
 	}
 	
 	@Test
 	void whenTryCreateReturnConflictException() {
+		when(cpfBloomFilter.mightContain(Mockito.any())).thenReturn(true);
 		when(employeeRepository.findByCpf(Mockito.any())).thenReturn(Optional.of(employee));
 		
 		ConflictException exception = assertThrows(ConflictException.class,
 				() -> employeeServiceImpl.create(employeeRequestDto));
 
 		assertEquals("Cpf already registered in the system", exception.getMessage());
+		verify(employeeRepository, times(0)).saveAndFlush(Mockito.any());
+	}
+	
+	@Test
+	void whenTryCreateAndUniqueConstraintIsViolatedReturnConflictException() {
+		when(employeeRepository.saveAndFlush(Mockito.any())).thenThrow(new DataIntegrityViolationException("cpf"));
+		
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> employeeServiceImpl.create(employeeRequestDto));
+
+		assertEquals("Cpf already registered in the system", exception.getMessage());
+		verify(cpfBloomFilter, times(0)).add(Mockito.any());
+	}
+	
+	@Test
+	void whenCreateAllReturnOneResultPerEmployee() throws BadRequestException, ConflictException {
+		when(employeeRepository.findExistingCpfs(Mockito.any())).thenReturn(List.of("registered"));
+		when(employeeJdbcRepository.insertAll(Mockito.any())).thenReturn(List.of(ID));
+		
+		List<EmployeeBatchResponseDto> response = employeeServiceImpl.createAll(Arrays.asList(
+				employeeRequestDto,
+				new EmployeeRequestDto(NAME, "registered", DepartmentEnum.IT, true),
+				new EmployeeRequestDto(NAME, CPF, DepartmentEnum.IT, true),
+				null));
+		
+		assertEquals(4, response.size());
+		assertEquals(BatchStatusEnum.CREATED, response.get(0).getStatus());
+		assertEquals(ID, response.get(0).getId());
+		assertEquals(BatchStatusEnum.CONFLICT, response.get(1).getStatus());
+		assertEquals("Cpf already registered in the system", response.get(1).getErrors().get(INDEX));
+		assertEquals(BatchStatusEnum.CONFLICT, response.get(2).getStatus());
+		assertEquals(BatchStatusEnum.INVALID, response.get(3).getStatus());
+		verify(employeeRepository, times(1)).findExistingCpfs(Mockito.any());
+		verify(employeeJdbcRepository, times(1)).insertAll(Mockito.argThat(employees -> employees.size() == 1));
+	}
+	
+	@Test
+	void whenTryCreateAllWithEmptyBatchReturnBadRequestException() {
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> employeeServiceImpl.createAll(List.of()));
+
+		assertEquals("Batch must contain between 1 and 10000 employees", exception.getMessage());
+	}
+	
+	@Test
+	void whenTryCreateAllAndCpfIsInsertedConcurrentlyReturnConflictException() {
+		when(employeeJdbcRepository.insertAll(Mockito.any())).thenThrow(new DuplicateKeyException("cpf"));
+		
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> employeeServiceImpl.createAll(List.of(employeeRequestDto)));
+
+		assertEquals("Cpf already registered in the system", exception.getMessage());
 	}
 	
 	@Test
-	void whenUpdateEmployeeStatusReturnSuccess() throws NotFoundException {
-		when(employeeRepository.findById(Mockito.any())).thenReturn(Optional.of(employee));
+	void whenUpdateEmployeeStatusUpdateWithoutLoadingEmployee() throws NotFoundException {
+		List<EmployeeHeadcount> current = List.of(employeeHeadcount(DepartmentEnum.IT, false, 1));
+		when(employeeRepository.countByDepartmentAndEnabledForIds(List.of(ID))).thenReturn(current);
 
 		employeeServiceImpl.updateEmployeeStatus(ID, employeeStatusRequestDto);
 
-		verify(employeeRepository, times(1)).save(Mockito.any());
+		verify(employeeRepository, times(1)).updateStatusByIds(List.of(ID), true);
+		verify(employeeRepository, times(0)).findById(Mockito.any());
+		verify(employeeRepository, times(0)).save(Mockito.any());
+		verify(employeeResponseCache, times(1)).invalidate(ID);
+		verify(employeeHeadcounts, times(1)).moved(DepartmentEnum.IT, false, DepartmentEnum.IT, true, 1);
+	}
+	
+	@Test
+	void whenUpdateEmployeeStatusToCurrentStatusSkipUpdate() throws NotFoundException {
+		List<EmployeeHeadcount> current = List.of(employeeHeadcount(DepartmentEnum.IT, true, 1));
+		when(employeeRepository.countByDepartmentAndEnabledForIds(List.of(ID))).thenReturn(current);
+
+		employeeServiceImpl.updateEmployeeStatus(ID, employeeStatusRequestDto);
+
+		verify(employeeRepository, times(0)).updateStatusByIds(Mockito.any(), Mockito.anyBoolean());
+		verify(employeeResponseCache, times(0)).invalidate(ID);
 	}
 	
 	@Test
 	void whenTryUpdateEmployeeStatusReturnNotFoundException() {
-		when(employeeRepository.findById(anyLong())).thenReturn(Optional.empty());
+		when(employeeRepository.countByDepartmentAndEnabledForIds(List.of(ID))).thenReturn(List.of());
 
 		NotFoundException exception = assertThrows(NotFoundException.class,
 				() -> employeeServiceImpl.updateEmployeeStatus(ID, employeeStatusRequestDto));
 
 		assertEquals(String.format("Employee %s not found", ID), exception.getMessage());
 	}
+	
+	@Test
+	void whenUpdateEmployeesStatusByIdsReturnUpdatedRows() throws BadRequestException {
+		List<EmployeeHeadcount> current = List.of(employeeHeadcount(DepartmentEnum.IT, true, 2), 
+				employeeHeadcount(DepartmentEnum.HUMAN_RESOURCES, true, 1), employeeHeadcount(DepartmentEnum.HUMAN_RESOURCES, false, 1));
+		when(employeeRepository.countByDepartmentAndEnabledForIds(Set.of(1l, 2l, 3l, 4l))).thenReturn(current);
+		when(employeeRepository.updateStatusByIds(Set.of(1l, 2l, 3l, 4l), false)).thenReturn(3);
+
+		EmployeeBulkStatusResponseDto response = employeeServiceImpl.updateEmployeesStatus(
+				new EmployeeBulkStatusRequestDto(List.of(1l, 2l, 3l, 4l, 4l), null, false));
+
+		assertEquals(3, response.getUpdated());
+		verify(employeeHeadcounts, times(1)).moved(DepartmentEnum.IT, true, DepartmentEnum.IT, false, 2);
+		verify(employeeHeadcounts, times(1)).moved(DepartmentEnum.HUMAN_RESOURCES, true, DepartmentEnum.HUMAN_RESOURCES, false, 1);
+		verify(employeeResponseCache, times(4)).invalidate(anyLong());
+	}
+	
+	@Test
+	void whenUpdateEmployeesStatusByDepartmentReturnUpdatedRows() throws BadRequestException {
+		when(employeeRepository.updateStatusByDepartment(DepartmentEnum.IT, false)).thenReturn(5);
+
+		EmployeeBulkStatusResponseDto response = employeeServiceImpl.updateEmployeesStatus(
+				new EmployeeBulkStatusRequestDto(null, DepartmentEnum.IT, false));
+
+		assertEquals(5, response.getUpdated());
+		verify(employeeHeadcounts, times(1)).moved(DepartmentEnum.IT, true, DepartmentEnum.IT, false, 5);
+		verify(employeeResponseCache, times(1)).invalidateAll();
+	}
+	
+	@Test
+	void whenTryUpdateEmployeesStatusWithIdsAndDepartmentReturnBadRequestException() {
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> employeeServiceImpl.updateEmployeesStatus(
+						new EmployeeBulkStatusRequestDto(List.of(ID), DepartmentEnum.IT, false)));
+
+		assertEquals("Inform either ids or department", exception.getMessage());
+	}
+	
+	@Test
+	void whenTryUpdateEmployeesStatusWithoutFilterReturnBadRequestException() {
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> employeeServiceImpl.updateEmployeesStatus(new EmployeeBulkStatusRequestDto(List.of(), null, false)));
+
+		assertEquals("Inform either ids or department", exception.getMessage());
+	}
 
 	@Test
-	void whenUpdateReturnSuccess() throws NotFoundException, ConflictException {
-		when(employeeRepository.findById(Mockito.any())).thenReturn(Optional.of(employee));
-		when(employeeRepository.findByCpf(Mockito.any())).thenReturn(Optional.empty());
-		when(modelMapper.map(Mockito.any(), Mockito.any())).thenReturn(employee);
+	void whenUpdateKeepingCpfDepartmentAndStatusIssueOnlyConditionalUpdate() throws NotFoundException, ConflictException {
+		when(employeeRepository.updateNameByIdAndCpfAndDepartmentAndEnabled(ID, NAME, CPF, DepartmentEnum.IT, false))
+				.thenReturn(1);
 
 		employeeServiceImpl.update(ID, employeeRequestDto);
 
-		verify(employeeRepository, times(1)).save(Mockito.any());
+		verify(employeeRepository, times(0)).findById(Mockito.any());
+		verify(employeeRepository, times(0)).findByCpf(Mockito.any());
+		verify(employeeRepository, times(0)).flush();
+		verify(employeeResponseCache, times(1)).invalidate(ID);
+		verify(employeeNameIndex, times(1)).put(ID, NAME);
+		verify(employeeHeadcounts, times(0)).moved(Mockito.any(), Mockito.anyBoolean(), Mockito.any(), Mockito.anyBoolean());
+	}
+	
+	@Test
+	void whenUpdateChangingStatusUpdateManagedEntityAndMoveHeadcount() throws NotFoundException, ConflictException {
+		when(employeeRepository.findById(ID)).thenReturn(Optional.of(employee));
+
+		employeeServiceImpl.update(ID, employeeRequestDto);
+
+		assertFalse(employee.isEnabled());
+		verify(employeeRepository, times(1)).flush();
+		verify(employeeRepository, times(0)).save(Mockito.any());
+		verify(employeeRepository, times(0)).findByCpf(Mockito.any());
+		verify(employeeResponseCache, times(1)).invalidate(ID);
+		verify(employeeHeadcounts, times(1)).moved(DepartmentEnum.IT, true, DepartmentEnum.IT, false);
+	}
+	
+	@Test
+	void whenUpdateWithNewCpfMoveCpfInFilter() throws NotFoundException, ConflictException {
+		when(employeeRepository.findById(ID)).thenReturn(Optional.of(employee));
+		
+		employeeServiceImpl.update(ID, new EmployeeRequestDto(NAME, "other", DepartmentEnum.IT, true));
+		
+		assertEquals("other", employee.getCpf());
+		verify(cpfBloomFilter, times(1)).add("other");
+		verify(cpfBloomFilter, times(1)).remove(CPF);
 	}
 
 	@Test
@@ -201,33 +552,143 @@ public class EmployeeServiceImplTest {
 	}
 	
 	@Test
-	void whenTryUpdateReturnConflictException() {
-		when(employeeRepository.findById(Mockito.any())).thenReturn(Optional.of(employee));
-		when(employeeRepository.findByCpf(Mockito.any())).thenReturn(Optional.of(employee));
-		
-		employee.setId(2l);
+	void whenTryUpdateAndEmployeeIsModifiedConcurrentlyReturnConflictException() {
+		when(employeeRepository.findById(ID)).thenReturn(Optional.of(employee));
+		Mockito.doThrow(new ObjectOptimisticLockingFailureException(Employee.class, ID)).when(employeeRepository).flush();
 		
 		ConflictException exception = assertThrows(ConflictException.class,
 				() -> employeeServiceImpl.update(ID, employeeRequestDto));
 
+		assertEquals(String.format("Employee %s was modified concurrently", ID), exception.getMessage());
+	}
+	
+	@Test
+	void whenTryUpdateAndUniqueConstraintIsViolatedReturnConflictException() {
+		when(employeeRepository.findById(ID)).thenReturn(Optional.of(employee));
+		Mockito.doThrow(new DataIntegrityViolationException("cpf")).when(employeeRepository).flush();
+		
+		ConflictException exception = assertThrows(ConflictException.class,
+				() -> employeeServiceImpl.update(ID, new EmployeeRequestDto(NAME, "other", DepartmentEnum.IT, true)));
+
 		assertEquals("Cpf already registered in the system", exception.getMessage());
+		verify(cpfBloomFilter, times(0)).add(Mockito.any());
 	}
 	
 	@Test
 	void whenDeleteReturnSuccess() throws NotFoundException {
-		when(employeeRepository.findById(Mockito.any())).thenReturn(Optional.of(employee));
+		List<EmployeeIndexEntry> entries = List.of(employeeIndexEntry(ID, CPF, DepartmentEnum.IT, true));
+		when(employeeRepository.findIndexEntriesByIds(List.of(ID))).thenReturn(entries);
+		when(employeeRepository.deleteByIds(List.of(ID))).thenReturn(1);
 		
 		employeeServiceImpl.delete(ID);
 		
-		verify(employeeRepository, times(1)).deleteById(anyLong());
+		verify(employeeRepository, times(0)).findById(anyLong());
+		verify(employeeRepository, times(0)).deleteById(anyLong());
+		verify(cpfBloomFilter, times(1)).remove(CPF);
+		verify(employeeResponseCache, times(1)).invalidate(ID);
+		verify(employeeNameIndex, times(1)).removeAll(List.of(ID));
+		verify(employeeHeadcounts, times(1)).removed(DepartmentEnum.IT, true, 1);
 	}
 
 	@Test
 	void whenTryDeleteReturnNotFoundException() {
-		when(employeeRepository.findById(anyLong())).thenReturn(Optional.empty());
+		when(employeeRepository.findIndexEntriesByIds(List.of(ID))).thenReturn(List.of());
 
 		NotFoundException exception = assertThrows(NotFoundException.class, () -> employeeServiceImpl.delete(ID));
 
 		assertEquals(String.format("Employee %s not found", ID), exception.getMessage());
 	}
-}
\ No newline at end of file
+	
+	@Test
+	void whenDeleteAllByIdsDeleteInChunksAndCountNotFound() throws BadRequestException {
+		List<Long> ids = LongStream.rangeClosed(1, 1500).boxed().collect(Collectors.toList());
+		when(employeeRepository.findIndexEntriesByIds(Mockito.any())).thenAnswer(invocation -> {
+			List<Long> chunk = invocation.getArgument(0);
+			return chunk.stream().filter(id -> id % 2 == 0)
+					.map(id -> employeeIndexEntry(id, String.valueOf(id), DepartmentEnum.IT, false))
+					.collect(Collectors.toList());
+		});
+		when(employeeRepository.deleteByIds(Mockito.any()))
+				.thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+		
+		EmployeeBulkDeleteResponseDto response = employeeServiceImpl.deleteAll(
+				new EmployeeBulkDeleteRequestDto(ids, null, null));
+		
+		assertEquals(750, response.getDeleted());
+		assertEquals(750, response.getNotFound());
+		verify(employeeRepository, times(2)).findIndexEntriesByIds(Mockito.any());
+		verify(employeeRepository, times(2)).deleteByIds(Mockito.any());
+		verify(employeeHeadcounts, times(1)).removed(DepartmentEnum.IT, false, 500);
+		verify(employeeHeadcounts, times(1)).removed(DepartmentEnum.IT, false, 250);
+	}
+	
+	@Test
+	void whenDeleteAllByFilterDeleteMatchingEmployees() throws BadRequestException {
+		List<EmployeeIndexEntry> entries = List.of(employeeIndexEntry(ID, CPF, DepartmentEnum.IT, false),
+				employeeIndexEntry(2l, "other", DepartmentEnum.IT, false));
+		when(employeeRepository.findIndexEntriesByDepartmentAndStatus(DepartmentEnum.IT, false, null, 1000))
+				.thenReturn(entries);
+		when(employeeRepository.deleteByIds(List.of(ID, 2l))).thenReturn(2);
+		
+		EmployeeBulkDeleteResponseDto response = employeeServiceImpl.deleteAll(
+				new EmployeeBulkDeleteRequestDto(null, DepartmentEnum.IT, false));
+		
+		assertEquals(2, response.getDeleted());
+		assertEquals(0, response.getNotFound());
+		verify(cpfBloomFilter, times(1)).remove(CPF);
+		verify(cpfBloomFilter, times(1)).remove("other");
+		verify(employeeNameIndex, times(1)).removeAll(List.of(ID, 2l));
+		verify(employeeHeadcounts, times(1)).removed(DepartmentEnum.IT, false, 2);
+		verify(employeeResponseCache, times(1)).invalidateAll();
+		verify(employeeResponseCache, times(0)).invalidate(anyLong());
+	}
+	
+	@Test
+	void whenDeleteAllByFilterDeleteInKeysetChunks() throws BadRequestException {
+		List<EmployeeIndexEntry> firstChunk = LongStream.rangeClosed(1, 1000)
+				.mapToObj(id -> employeeIndexEntry(id, String.valueOf(id), DepartmentEnum.IT, true))
+				.collect(Collectors.toList());
+		List<EmployeeIndexEntry> lastChunk = List.of(employeeIndexEntry(1001l, "1001", DepartmentEnum.IT, false));
+		when(employeeRepository.findIndexEntriesByDepartmentAndStatus(DepartmentEnum.IT, null, null, 1000))
+				.thenReturn(firstChunk);
+		when(employeeRepository.findIndexEntriesByDepartmentAndStatus(DepartmentEnum.IT, null, 1000l, 1000))
+				.thenReturn(lastChunk);
+		when(employeeRepository.deleteByIds(Mockito.any()))
+				.thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+		
+		EmployeeBulkDeleteResponseDto response = employeeServiceImpl.deleteAll(
+				new EmployeeBulkDeleteRequestDto(null, DepartmentEnum.IT, null));
+		
+		assertEquals(1001, response.getDeleted());
+		verify(employeeRepository, times(2)).deleteByIds(Mockito.any());
+		verify(employeeHeadcounts, times(1)).removed(DepartmentEnum.IT, true, 1000);
+		verify(employeeHeadcounts, times(1)).removed(DepartmentEnum.IT, false, 1);
+		verify(employeeResponseCache, times(1)).invalidateAll();
+	}
+	
+	@Test
+	void whenTryDeleteAllWithoutIdsOrFilterReturnBadRequestException() {
+		BadRequestException exception = assertThrows(BadRequestException.class,
+				() -> employeeServiceImpl.deleteAll(new EmployeeBulkDeleteRequestDto(null, null, null)));
+
+		assertEquals("Inform either ids or a department/enabled filter", exception.getMessage());
+		verify(employeeRepository, times(0)).deleteByIds(Mockito.any());
+	}
+	
+	private static EmployeeIndexEntry employeeIndexEntry(Long id, String cpf, DepartmentEnum department, boolean enabled) {
+		EmployeeIndexEntry employeeIndexEntry = Mockito.mock(EmployeeIndexEntry.class);
+		when(employeeIndexEntry.getId()).thenReturn(id);
+		when(employeeIndexEntry.getCpf()).thenReturn(cpf);
+		when(employeeIndexEntry.getDepartment()).thenReturn(department);
+		when(employeeIndexEntry.getEnabled()).thenReturn(enabled);
+		return employeeIndexEntry;
+	}
+	
+	private static EmployeeHeadcount employeeHeadcount(DepartmentEnum department, boolean enabled, long total) {
+		EmployeeHeadcount employeeHeadcount = Mockito.mock(EmployeeHeadcount.class);
+		when(employeeHeadcount.getDepartment()).thenReturn(department);
+		when(employeeHeadcount.getEnabled()).thenReturn(enabled);
+		when(employeeHeadcount.getTotal()).thenReturn(total);
+		return employeeHeadcount;
+	}
+}
@@ -0,0 +1,128 @@
+package com.github.silviacristinaa.employees.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeRequestDto;
+import com.github.silviacristinaa.employees.dtos.requests.EmployeeStatusRequestDto;
+import com.github.silviacristinaa.employees.entities.Employee;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.exceptions.BadRequestException;
+import com.github.silviacristinaa.employees.exceptions.ConflictException;
+import com.github.silviacristinaa.employees.exceptions.NotFoundException;
+import com.github.silviacristinaa.employees.mappers.EmployeeMapper;
+import com.github.silviacristinaa.employees.repositories.ReactiveEmployeeRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(SpringExtension.class)
+public class ReactiveEmployeeServiceImplTest {
+	
+	private static final long ID = 1l;
+	private static final String NAME = "Test";
+	private static final String CPF = "88888888888";
+	
+	@InjectMocks
+	private ReactiveEmployeeServiceImpl reactiveEmployeeServiceImpl;
+	
+	@Mock
+	private ReactiveEmployeeRepository reactiveEmployeeRepository;
+	
+	@Mock
+	private R2dbcEntityTemplate r2dbcEntityTemplate;
+	
+	@Spy
+	private EmployeeMapper employeeMapper;
+	
+	private EmployeeRequestDto employeeRequestDto;
+	private Employee employee;
+	
+	@BeforeEach
+	void setUp() {
+		employeeRequestDto = new EmployeeRequestDto(NAME, CPF, DepartmentEnum.IT, true);
+		employee = new Employee(ID, NAME, CPF, DepartmentEnum.IT, true);
+	}
+	
+	@Test
+	void whenFindAllReturnPageWithTotal() {
+		when(reactiveEmployeeRepository.findAllBy(any(Pageable.class))).thenReturn(Flux.just(employee));
+		when(reactiveEmployeeRepository.count()).thenReturn(Mono.just(21L));
+		
+		StepVerifier.create(reactiveEmployeeServiceImpl.findAll(PageRequest.of(0, 20)))
+				.expectNextMatches(page -> page.getTotalElements() == 21 && page.getContent().get(0).getId() == ID
+						&& page.getSort().getOrderFor("id") != null)
+				.verifyComplete();
+	}
+	
+	@Test
+	void whenFindAllWithUnknownSortReturnBadRequestException() {
+		StepVerifier.create(reactiveEmployeeServiceImpl.findAll(PageRequest.of(0, 20, Sort.by("salary"))))
+				.expectErrorMatches(e -> e instanceof BadRequestException 
+						&& e.getMessage().equals("Sort by salary is not allowed"))
+				.verify();
+	}
+	
+	@Test
+	void whenFindByIdNotFoundReturnNotFoundException() {
+		when(reactiveEmployeeRepository.findById(ID)).thenReturn(Mono.empty());
+		
+		StepVerifier.create(reactiveEmployeeServiceImpl.findOneEmployeeById(ID))
+				.expectErrorMatches(e -> e instanceof NotFoundException 
+						&& e.getMessage().equals("Employee 1 not found"))
+				.verify();
+	}
+	
+	@Test
+	void whenCreateWithDuplicatedCpfReturnConflictException() {
+		when(reactiveEmployeeRepository.save(any())).thenReturn(Mono.error(new DuplicateKeyException(CPF)));
+		
+		StepVerifier.create(reactiveEmployeeServiceImpl.create(employeeRequestDto))
+				.expectErrorMatches(e -> e instanceof ConflictException 
+						&& e.getMessage().equals("Cpf already registered in the system"))
+				.verify();
+	}
+	
+	@Test
+	void whenUpdateEmployeeStatusSaveDisabledEmployeeWithNextVersion() {
+		employee.setVersion(2l);
+		when(reactiveEmployeeRepository.findById(ID)).thenReturn(Mono.just(employee));
+		when(reactiveEmployeeRepository.save(employee)).thenReturn(Mono.just(employee));
+		
+		StepVerifier.create(reactiveEmployeeServiceImpl.updateEmployeeStatus(ID, new EmployeeStatusRequestDto(false)))
+				.verifyComplete();
+		
+		verify(reactiveEmployeeRepository).save(employee);
+		assertFalse(employee.isEnabled());
+		assertEquals(3l, employee.getVersion());
+	}
+	
+	@Test
+	void whenDeleteUnknownEmployeeNeverDelete() {
+		when(reactiveEmployeeRepository.findById(ID)).thenReturn(Mono.empty());
+		
+		StepVerifier.create(reactiveEmployeeServiceImpl.delete(ID))
+				.expectError(NotFoundException.class)
+				.verify();
+		
+		verify(reactiveEmployeeRepository, never()).delete(any());
+	}
+}
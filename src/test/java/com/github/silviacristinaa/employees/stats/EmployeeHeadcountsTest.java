@@ -0,0 +1,98 @@
+package com.github.silviacristinaa.employees.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.github.silviacristinaa.employees.dtos.responses.EmployeeStatsResponseDto;
+import com.github.silviacristinaa.employees.enums.DepartmentEnum;
+import com.github.silviacristinaa.employees.repositories.EmployeeRepository;
+import com.github.silviacristinaa.employees.repositories.projections.EmployeeHeadcount;
+
+@ExtendWith(SpringExtension.class)
+public class EmployeeHeadcountsTest {
+	
+	@InjectMocks
+	private EmployeeHeadcounts employeeHeadcounts;
+	
+	@Mock
+	private EmployeeRepository employeeRepository;
+	
+	@BeforeEach
+	void setUp() {
+		List<EmployeeHeadcount> headcounts = List.of(
+				headcount(DepartmentEnum.IT, true, 3), headcount(DepartmentEnum.IT, false, 1));
+		when(employeeRepository.countByDepartmentAndEnabled()).thenReturn(headcounts);
+		employeeHeadcounts.load();
+	}
+	
+	@Test
+	void whenSnapshotReturnSeededCountsForEveryDepartment() {
+		List<EmployeeStatsResponseDto> stats = employeeHeadcounts.snapshot();
+		
+		assertEquals(DepartmentEnum.values().length, stats.size());
+		assertEquals(3, stats(DepartmentEnum.IT).getTotalActive());
+		assertEquals(1, stats(DepartmentEnum.IT).getTotalInactive());
+		assertEquals(0, stats(DepartmentEnum.COMMERCIAL).getTotalActive());
+		verify(employeeRepository, times(1)).countByDepartmentAndEnabled();
+	}
+	
+	@Test
+	void whenWritesHappenOutsideTransactionApplyImmediately() {
+		employeeHeadcounts.added(DepartmentEnum.COMMERCIAL, true);
+		employeeHeadcounts.moved(DepartmentEnum.IT, true, DepartmentEnum.IT, false);
+		employeeHeadcounts.removed(DepartmentEnum.IT, false);
+		
+		assertEquals(1, stats(DepartmentEnum.COMMERCIAL).getTotalActive());
+		assertEquals(2, stats(DepartmentEnum.IT).getTotalActive());
+		assertEquals(1, stats(DepartmentEnum.IT).getTotalInactive());
+	}
+	
+	@Test
+	void whenWritesHappenInsideTransactionApplyOnlyAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			employeeHeadcounts.added(DepartmentEnum.HUMAN_RESOURCES, false);
+			assertEquals(0, stats(DepartmentEnum.HUMAN_RESOURCES).getTotalInactive());
+			
+			TransactionSynchronizationUtils.triggerAfterCommit();
+			assertEquals(1, stats(DepartmentEnum.HUMAN_RESOURCES).getTotalInactive());
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+	
+	@Test
+	void whenReconcileReplaceDriftedCounts() {
+		employeeHeadcounts.added(DepartmentEnum.IT, true);
+		
+		employeeHeadcounts.reconcile();
+		
+		assertEquals(3, stats(DepartmentEnum.IT).getTotalActive());
+	}
+	
+	private EmployeeStatsResponseDto stats(DepartmentEnum department) {
+		return employeeHeadcounts.snapshot().get(department.ordinal());
+	}
+	
+	private static EmployeeHeadcount headcount(DepartmentEnum department, boolean enabled, long total) {
+		EmployeeHeadcount headcount = mock(EmployeeHeadcount.class);
+		when(headcount.getDepartment()).thenReturn(department);
+		when(headcount.getEnabled()).thenReturn(enabled);
+		when(headcount.getTotal()).thenReturn(total);
+		return headcount;
+	}
+}